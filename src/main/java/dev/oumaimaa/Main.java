@@ -4,12 +4,15 @@ import com.github.retrooper.packetevents.PacketEvents;
 import dev.oumaimaa.api.API;
 import dev.oumaimaa.plugin.command.CommandManager;
 import dev.oumaimaa.plugin.config.ConfigManager;
+import dev.oumaimaa.plugin.config.MessageManager;
 import dev.oumaimaa.plugin.config.playerdata.PlayerDataManager;
+import dev.oumaimaa.plugin.event.GameEventBus;
 import dev.oumaimaa.plugin.gui.GUIManager;
 import dev.oumaimaa.plugin.lib.KawaiiRoyalePlaceholder;
 import dev.oumaimaa.plugin.listener.ListenerManager;
 import dev.oumaimaa.plugin.listener.packet.PacketListenerManager;
 import dev.oumaimaa.plugin.manager.*;
+import dev.oumaimaa.plugin.task.GameTicker;
 import io.github.retrooper.packetevents.factory.spigot.SpigotPacketEventsBuilder;
 import net.kyori.adventure.text.minimessage.MiniMessage;
 import org.bukkit.plugin.java.JavaPlugin;
@@ -28,8 +31,12 @@ public final class Main extends JavaPlugin {
     private static Main instance;
 
     private ConfigManager configManager;
+    private MessageManager messageManager;
     private ArenaManager arenaManager;
+    private WorldInstanceManager worldInstanceManager;
     private GameManager gameManager;
+    private GameTicker gameTicker;
+    private GameEventBus eventBus;
     private QueueManager queueManager;
     private PlayerDataManager playerDataManager;
     private ZoneManager zoneManager;
@@ -111,11 +118,18 @@ public final class Main extends JavaPlugin {
                 return false;
             }
 
+            logInfo("Loading messages...");
+            this.messageManager = new MessageManager(this);
+
             logInfo("Initializing player data system...");
             this.playerDataManager = new PlayerDataManager(this);
 
+            logInfo("Starting progression event bus...");
+            this.eventBus = new GameEventBus(this);
+
             logInfo("Initializing arena system...");
             this.arenaManager = new ArenaManager(this);
+            this.worldInstanceManager = new WorldInstanceManager(this);
 
             logInfo("Initializing zone management...");
             this.zoneManager = new ZoneManager(this);
@@ -129,6 +143,9 @@ public final class Main extends JavaPlugin {
             logInfo("Initializing game management...");
             this.gameManager = new GameManager(this);
 
+            logInfo("Starting game ticker...");
+            this.gameTicker = new GameTicker(this);
+
             logInfo("Initializing GUI system...");
             this.guiManager = new GUIManager(this);
 
@@ -187,10 +204,6 @@ public final class Main extends JavaPlugin {
             logInfo("Shutting down challenge manager...");
         }
 
-        if (battlePassManager != null) {
-            logInfo("Shutting down battle pass...");
-        }
-
         if (cosmeticManager != null) {
             logInfo("Shutting down cosmetic manager...");
         }
@@ -207,6 +220,23 @@ public final class Main extends JavaPlugin {
             gameManager.shutdown();
         }
 
+        if (gameTicker != null) {
+            gameTicker.shutdown();
+        }
+
+        if (eventBus != null) {
+            eventBus.shutdown();
+        }
+
+        if (battlePassManager != null) {
+            logInfo("Shutting down battle pass...");
+            battlePassManager.shutdown();
+        }
+
+        if (zoneManager != null) {
+            zoneManager.shutdown();
+        }
+
         if (queueManager != null) {
             queueManager.shutdown();
         }
@@ -215,6 +245,10 @@ public final class Main extends JavaPlugin {
             playerDataManager.shutdown();
         }
 
+        if (worldInstanceManager != null) {
+            worldInstanceManager.shutdown();
+        }
+
         if (arenaManager != null) {
             arenaManager.shutdown();
         }
@@ -263,14 +297,34 @@ public final class Main extends JavaPlugin {
         return configManager;
     }
 
+    public MessageManager getMessageManager() {
+        return messageManager;
+    }
+
     public ArenaManager getArenaManager() {
         return arenaManager;
     }
 
+    public WorldInstanceManager getWorldInstanceManager() {
+        return worldInstanceManager;
+    }
+
     public GameManager getGameManager() {
         return gameManager;
     }
 
+    public GameTicker getGameTicker() {
+        return gameTicker;
+    }
+
+    public GameEventBus getEventBus() {
+        return eventBus;
+    }
+
+    public ListenerManager getListenerManager() {
+        return listenerManager;
+    }
+
     public QueueManager getQueueManager() {
         return queueManager;
     }
@@ -137,8 +137,7 @@ public final class API {
      */
     public static void giveCoins(@NotNull Player player, int amount) {
         ensureInitialized();
-        PlayerData data = plugin.getPlayerDataManager().getPlayerData(player);
-        data.addCoins(amount);
+        plugin.getPlayerDataManager().whenLoaded(player.getUniqueId(), data -> data.addCoins(amount));
     }
 
     /**
@@ -162,8 +161,7 @@ public final class API {
      */
     public static void giveAchievement(@NotNull Player player, @NotNull String achievementId) {
         ensureInitialized();
-        PlayerData data = plugin.getPlayerDataManager().getPlayerData(player);
-        data.addAchievement(achievementId);
+        plugin.getPlayerDataManager().whenLoaded(player.getUniqueId(), data -> data.addAchievement(achievementId));
     }
 
     /**
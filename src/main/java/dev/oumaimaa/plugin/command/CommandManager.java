@@ -78,9 +78,20 @@ public class CommandManager {
             switch (args[0].toLowerCase()) {
                 case "reload" -> {
                     plugin.getConfigManager().reload();
+                    plugin.getMessageManager().reload();
+                    plugin.getZoneManager().reload();
                     player.sendMessage(Component.text("✓ Configuration reloaded!").color(NamedTextColor.GREEN));
                     return true;
                 }
+                case "storage" -> {
+                    player.sendMessage(Component.text(plugin.getPlayerDataManager().getCacheStats())
+                            .color(NamedTextColor.GRAY));
+                    player.sendMessage(Component.text(plugin.getPlayerDataManager().getWriterStats())
+                            .color(NamedTextColor.GRAY));
+                    player.sendMessage(Component.text(plugin.getPlayerDataManager().getDatabaseStats())
+                            .color(NamedTextColor.GRAY));
+                    return true;
+                }
                 case "coins" -> {
                     if (args.length < 4) {
                         player.sendMessage(Component.text("Usage: /kawaii coins <add|remove|set> <player> <amount>")
@@ -143,6 +154,7 @@ public class CommandManager {
                 return true;
             }
 
+            if (!plugin.getPlayerDataManager().checkLoaded(sender, target)) return true;
             PlayerData data = plugin.getPlayerDataManager().getPlayerData(target);
 
             switch (args[1].toLowerCase()) {
@@ -181,6 +193,7 @@ public class CommandManager {
                 return true;
             }
 
+            if (!plugin.getPlayerDataManager().checkLoaded(sender, target)) return true;
             PlayerData data = plugin.getPlayerDataManager().getPlayerData(target);
             data.addAchievement(achievementId);
 
@@ -202,6 +215,7 @@ public class CommandManager {
                 return true;
             }
 
+            if (!plugin.getPlayerDataManager().checkLoaded(sender, target)) return true;
             PlayerData data = plugin.getPlayerDataManager().getPlayerData(target);
             data.addCosmetic(cosmeticId);
 
@@ -243,6 +257,7 @@ public class CommandManager {
                 return true;
             }
 
+            if (!plugin.getPlayerDataManager().checkLoaded(sender, target)) return true;
             PlayerData data = plugin.getPlayerDataManager().getPlayerData(target);
 
             switch (args[1].toLowerCase()) {
@@ -133,6 +133,30 @@ public class ConfigManager {
         return getMainConfig().getInt("game-modes.resurgence.max-players", 50);
     }
 
+    public boolean isInstancingEnabled() {
+        return getMainConfig().getBoolean("arena-instancing.enabled", true);
+    }
+
+    public int getInstancePoolSize() {
+        return Math.max(0, getMainConfig().getInt("arena-instancing.pool-size", 1));
+    }
+
+    public String getInstanceWorldPrefix() {
+        return getMainConfig().getString("arena-instancing.world-prefix", "kr_instance_");
+    }
+
+    public int getArenaWorldIdleUnload() {
+        return Math.max(0, getMainConfig().getInt("arena-worlds.idle-unload", 300));
+    }
+
+    public int getArenaWorldCheckInterval() {
+        return Math.max(1, getMainConfig().getInt("arena-worlds.check-interval", 30));
+    }
+
+    public int getScoreboardUpdateInterval() {
+        return Math.max(1, getMainConfig().getInt("customization.scoreboard.update-interval", 10));
+    }
+
     public int getCountdownTime() {
         return getMainConfig().getInt("timers.countdown", 15);
     }
@@ -141,6 +165,58 @@ public class ConfigManager {
         return getMainConfig().getInt("timers.grace-period", 60);
     }
 
+    public int getDeployCohortSize() {
+        return Math.max(1, getMainConfig().getInt("timers.deploy-cohort-size", 10));
+    }
+
+    public int getDeployTimeout() {
+        return getMainConfig().getInt("timers.deploy-timeout", 15);
+    }
+
+    public int getWarmupSpawnRadius() {
+        return Math.max(0, getMainConfig().getInt("performance.arena-warmup.spawn-radius", 1));
+    }
+
+    public int getWarmupCenterRadius() {
+        return Math.max(0, getMainConfig().getInt("performance.arena-warmup.center-radius", 4));
+    }
+
+    public int getWarmupChunksPerTick() {
+        return Math.max(1, getMainConfig().getInt("performance.arena-warmup.chunks-per-tick", 8));
+    }
+
+    public int getWarmupTimeout() {
+        return getMainConfig().getInt("performance.arena-warmup.timeout", 30);
+    }
+
+    public int getRollbackBlocksPerTick() {
+        return Math.max(1, getMainConfig().getInt("performance.arena-rollback.blocks-per-tick", 500));
+    }
+
+    public int getProfileLoadTimeout() {
+        return Math.max(1, getMainConfig().getInt("performance.profile-load.timeout", 5));
+    }
+
+    public boolean isProfileLoadKickOnTimeout() {
+        return getMainConfig().getBoolean("performance.profile-load.kick-on-timeout", true);
+    }
+
+    public int getDatabasePoolSize() {
+        return Math.max(1, getMainConfig().getInt("performance.database.pool-size", 10));
+    }
+
+    public long getWriteBehindFlushInterval() {
+        return Math.max(50, getMainConfig().getLong("performance.database.write-behind.flush-interval", 1000));
+    }
+
+    public int getWriteBehindBatchSize() {
+        return Math.max(1, getMainConfig().getInt("performance.database.write-behind.batch-size", 200));
+    }
+
+    public int getWriteBehindShutdownTimeout() {
+        return Math.max(1, getMainConfig().getInt("performance.database.write-behind.shutdown-timeout", 10));
+    }
+
     public int getInitialZoneSize() {
         return getMainConfig().getInt("zone.initial-size", 1000);
     }
@@ -153,6 +229,10 @@ public class ConfigManager {
         return getMainConfig().getInt("zone.shrink-interval", 120);
     }
 
+    public int getZoneShrinkDuration() {
+        return getMainConfig().getInt("zone.shrink-duration", 60);
+    }
+
     public int getZoneDamage() {
         return getMainConfig().getInt("zone.damage-per-tick", 2);
     }
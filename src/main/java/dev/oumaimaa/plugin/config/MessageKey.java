@@ -0,0 +1,81 @@
+package dev.oumaimaa.plugin.config;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Messages loaded from messages.yml with their placeholder slots.
+ * Values passed when rendering fill the slots in declaration order.
+ */
+public enum MessageKey {
+    PREFIX("prefix", "<gradient:#ff69b4:#ff1493>[KawaiiRoyale]</gradient> "),
+
+    GAME_STARTING("game.starting", "<yellow>Game starting in <time> seconds...", "time"),
+    GAME_WARMING_UP("game.warming-up", "<yellow>Preparing arena... <white><progress>%", "progress"),
+    GAME_STARTED_TITLE("game.started-title", "<green>GAME START!"),
+    GAME_STARTED_SUBTITLE("game.started-subtitle", "<gray>Good luck!"),
+    GAME_GRACE_PERIOD("game.grace-period", "<yellow>⚠ Grace period active! PvP disabled for <time> seconds", "time"),
+    GAME_GRACE_END("game.grace-end", "<red>⚠ Grace period ended! PvP is now enabled!"),
+    GAME_JOINED("game.joined", "<green><player> joined the game! <gray>(<current>/<max>)", "player", "current", "max"),
+    GAME_LEFT("game.left", "<red><player> left the game!", "player"),
+    GAME_ELIMINATED_BY("game.eliminated-by",
+            "<red><victim> was eliminated by <gold><killer></gold>! <gray>(<alive> remaining)",
+            "victim", "killer", "alive"),
+    GAME_ELIMINATED("game.eliminated", "<red><player> was eliminated! (<alive> remaining)", "player", "alive"),
+    GAME_VICTORY("game.victory", "<gradient:#ffd700:#ffed4e>🏆 VICTORY ROYALE! 🏆</gradient>"),
+    GAME_VICTORY_SUBTITLE("game.victory-subtitle", "<gold>You won!"),
+    GAME_VICTORY_MESSAGE("game.victory-message",
+            "<gold><player></gold> <yellow>won the Battle Royale with <kills> kills!", "player", "kills"),
+    GAME_TOP_PLAYERS("game.top-players", "<gold>═══ Top 3 Players ═══"),
+    GAME_TOP_PLAYER_LINE("game.top-player-line", "<yellow><position>. <player> - <kills> kills",
+            "position", "player", "kills"),
+    GAME_NO_WINNERS("game.no-winners", "<yellow>No winners this round!"),
+    GAME_REWARDS_EARNED("game.rewards-earned", "<green>You earned rewards!"),
+    GAME_WIN_COINS("game.win-coins", "<gold>+ <coins> coins for winning!", "coins"),
+
+    ZONE_SHRINKING("zone.shrinking", "<yellow>⚠ The zone is shrinking!"),
+    ZONE_SHRINK_STOPPED("zone.shrink-stopped", "<green>✓ Zone has stopped shrinking!"),
+    ZONE_DAMAGE("zone.damage", "<gradient:#ff0000:#ff6666>⚠ You're outside the safe zone! Taking damage!</gradient>"),
+
+    ACHIEVEMENT_TITLE("achievement.title", "<gradient:#ffd700:#ffed4e>Achievement Unlocked!</gradient>"),
+    ACHIEVEMENT_SUBTITLE("achievement.subtitle", "<yellow><name>", "name"),
+    ACHIEVEMENT_UNLOCKED("achievement.unlocked",
+            "<gold>━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━<newline>" +
+                    "<yellow>  Achievement Unlocked!<newline>" +
+                    "<gray>  <gold><name></gold><newline>" +
+                    "<gray>  <description><newline>" +
+                    "<green>  +<yellow><reward> coins<newline>" +
+                    "<gold>━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━",
+            "name", "description", "reward"),
+    ACHIEVEMENT_BROADCAST("achievement.broadcast",
+            "<gold><player></gold><gray> has unlocked </gray><yellow><name></yellow><gray>!", "player", "name"),
+
+    ERROR_PROFILE_NOT_LOADED("error.profile-not-loaded",
+            "<red>Your profile couldn't be loaded in time. Please try joining again."),
+    ERROR_PROFILE_LOADING("error.profile-loading", "<red>Your profile is still loading, try again in a moment."),
+    ERROR_TARGET_PROFILE_LOADING("error.target-profile-loading",
+            "<red><player>'s profile is still loading, try again in a moment.", "player"),
+
+    SCOREBOARD_TITLE("scoreboard.title", "<gradient:#ff69b4:#ff1493>KawaiiRoyale</gradient>");
+
+    private final String path;
+    private final String fallback;
+    private final String[] slots;
+
+    MessageKey(String path, String fallback, String... slots) {
+        this.path = path;
+        this.fallback = fallback;
+        this.slots = slots;
+    }
+
+    public @NotNull String getPath() {
+        return path;
+    }
+
+    public @NotNull String getFallback() {
+        return fallback;
+    }
+
+    public String @NotNull [] getSlots() {
+        return slots;
+    }
+}
\ No newline at end of file
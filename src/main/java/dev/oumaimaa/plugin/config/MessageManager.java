@@ -0,0 +1,144 @@
+package dev.oumaimaa.plugin.config;
+
+import dev.oumaimaa.Main;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.TranslatableComponent;
+import net.kyori.adventure.text.minimessage.tag.Tag;
+import net.kyori.adventure.text.minimessage.tag.resolver.TagResolver;
+import org.bukkit.configuration.file.FileConfiguration;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Pre-parsed message templates loaded from messages.yml.
+ * <p>
+ * Each message is parsed once into a component tree where every placeholder
+ * is a marker component. Rendering only swaps markers for the given values.
+ * Templates are rebuilt off to the side and swapped in as a whole on reload.
+ */
+public class MessageManager {
+
+    private static final String SLOT_KEY = "kawaiiroyale.slot.";
+    private static final int MAX_SLOTS = 8;
+    private static final String[] SLOT_KEYS = new String[MAX_SLOTS];
+
+    static {
+        for (int i = 0; i < MAX_SLOTS; i++) {
+            SLOT_KEYS[i] = SLOT_KEY + i;
+        }
+    }
+
+    private final Main plugin;
+    private volatile Map<MessageKey, Component> templates;
+
+    public MessageManager(Main plugin) {
+        this.plugin = plugin;
+        this.templates = new EnumMap<>(MessageKey.class);
+
+        reload();
+    }
+
+    /**
+     * Parse all messages and swap them in
+     */
+    public void reload() {
+        FileConfiguration config = plugin.getConfigManager().getMessagesConfig();
+        Map<MessageKey, Component> parsed = new EnumMap<>(MessageKey.class);
+
+        for (MessageKey key : MessageKey.values()) {
+            String raw = config != null ? config.getString(key.getPath(), key.getFallback()) : key.getFallback();
+            parsed.put(key, parse(key, raw));
+        }
+
+        this.templates = parsed;
+        plugin.logInfo("Loaded " + parsed.size() + " message templates");
+    }
+
+    /**
+     * Parse a template, turning its placeholders into slot markers
+     */
+    private @NotNull Component parse(@NotNull MessageKey key, @NotNull String raw) {
+        String[] slots = key.getSlots();
+        TagResolver.Builder resolver = TagResolver.builder();
+        for (int i = 0; i < slots.length && i < MAX_SLOTS; i++) {
+            resolver.resolver(TagResolver.resolver(slots[i],
+                    Tag.selfClosingInserting(Component.translatable(SLOT_KEYS[i]))));
+        }
+
+        try {
+            return plugin.getMiniMessage().deserialize(raw, resolver.build());
+        } catch (Exception e) {
+            plugin.logWarning("Invalid message '" + key.getPath() + "': " + e.getMessage());
+            return plugin.getMiniMessage().deserialize(key.getFallback(), resolver.build());
+        }
+    }
+
+    /**
+     * Get a message without placeholders, any it has are left empty
+     */
+    public @NotNull Component get(@NotNull MessageKey key) {
+        return render(key);
+    }
+
+    /**
+     * Render a message, filling its slots in order.
+     * Components are inserted as-is, anything else as plain text; slots
+     * without a value are left empty.
+     */
+    public @NotNull Component render(@NotNull MessageKey key, Object @NotNull ... values) {
+        Component template = templates.get(key);
+        int slots = Math.min(key.getSlots().length, MAX_SLOTS);
+        if (values.length == 0 && slots == 0) return template;
+
+        Component[] components = new Component[Math.max(values.length, slots)];
+        for (int i = 0; i < components.length; i++) {
+            if (i >= values.length) {
+                components[i] = Component.empty();
+            } else {
+                components[i] = values[i] instanceof Component component
+                        ? component
+                        : Component.text(String.valueOf(values[i]));
+            }
+        }
+
+        return fill(template, components);
+    }
+
+    /**
+     * Replace slot markers in a component tree
+     */
+    private static @NotNull Component fill(@NotNull Component component, Component @NotNull [] values) {
+        if (component instanceof TranslatableComponent translatable) {
+            int slot = slotIndex(translatable.key(), values.length);
+            if (slot >= 0) {
+                return values[slot].applyFallbackStyle(translatable.style());
+            }
+        }
+
+        List<Component> children = component.children();
+        List<Component> filled = null;
+
+        for (int i = 0; i < children.size(); i++) {
+            Component child = children.get(i);
+            Component result = fill(child, values);
+
+            if (result != child) {
+                if (filled == null) filled = new ArrayList<>(children);
+                filled.set(i, result);
+            }
+        }
+
+        return filled == null ? component : component.children(filled);
+    }
+
+    private static int slotIndex(@NotNull String key, int count) {
+        for (int i = 0; i < count && i < MAX_SLOTS; i++) {
+            if (SLOT_KEYS[i].equals(key)) return i;
+        }
+        return -1;
+    }
+}
\ No newline at end of file
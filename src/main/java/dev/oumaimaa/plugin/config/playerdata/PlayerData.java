@@ -2,11 +2,19 @@ package dev.oumaimaa.plugin.config.playerdata;
 
 import dev.oumaimaa.plugin.constant.CosmeticType;
 import dev.oumaimaa.plugin.constant.CrateType;
+import dev.oumaimaa.plugin.record.ChallengeProgress;
+import org.jetbrains.annotations.NotNull;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
- * Player data container with all statistics and progress
+ * Player data container with all statistics and progress.
+ * Only changed on the main thread; the progression worker hands its changes
+ * back through the event bus.
+ * <p>
+ * Each change is recorded as it is made, so a save only writes the
+ * {@link PlayerDataDelta} since the last one.
  */
 public class PlayerData {
 
@@ -20,30 +28,71 @@ public class PlayerData {
     private int battlePassXP;
     private int battlePassTier;
     private boolean premiumBattlePass;
-    private int dailyChallengesCompleted;
-    private long lastDailyChallengeReset;
     private Map<CrateType, Integer> ownedCrates;
-    private final Map<String, Integer> challengeProgress;
+    private final Map<String, ChallengeProgress> challengeProgress;
     private long lastSeen;
     private long totalPlaytime;
+    private PlayerDataDelta changes;
+    private volatile boolean loaded;
 
     public PlayerData(UUID uuid) {
         this.uuid = uuid;
         this.name = "";
         this.statistics = new PlayerStatistics();
+        this.statistics.track(this::recordStat);
         this.coins = 0;
-        this.unlockedAchievements = new HashSet<>();
+        this.unlockedAchievements = ConcurrentHashMap.newKeySet();
         this.ownedCosmetics = new HashSet<>();
         this.equippedCosmetics = new EnumMap<>(CosmeticType.class);
         this.battlePassXP = 0;
         this.battlePassTier = 0;
         this.premiumBattlePass = false;
-        this.dailyChallengesCompleted = 0;
-        this.lastDailyChallengeReset = System.currentTimeMillis();
         this.ownedCrates = new EnumMap<>(CrateType.class);
-        this.challengeProgress = new HashMap<>();
+        this.challengeProgress = new ConcurrentHashMap<>();
         this.lastSeen = System.currentTimeMillis();
         this.totalPlaytime = 0;
+
+        markClean();
+    }
+
+    /**
+     * Treat the current values as persisted, e.g. right after loading
+     */
+    public synchronized void markClean() {
+        this.changes = new PlayerDataDelta(uuid);
+    }
+
+    /**
+     * Mark the profile as read from the database, treating its values as persisted
+     */
+    public synchronized void markLoaded() {
+        markClean();
+        this.loaded = true;
+    }
+
+    /**
+     * Check if the profile was loaded, rather than being a stand-in while it loads
+     */
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    /**
+     * Take the changes since the last drain.
+     * Must run on the thread that changes the profile, i.e. the main thread.
+     */
+    public synchronized @NotNull PlayerDataDelta drainDelta() {
+        PlayerDataDelta delta = changes.named(name);
+        this.changes = new PlayerDataDelta(uuid);
+        return delta;
+    }
+
+    private void recordStat(StatColumn column, double change) {
+        changes.recordStat(column, change);
+    }
+
+    private void recordBattlePass(int xpGained) {
+        changes.recordBattlePass(xpGained, battlePassTier, premiumBattlePass);
     }
 
     public UUID getUuid() {
@@ -54,7 +103,10 @@ public class PlayerData {
         return name;
     }
 
-    public void setName(String name) {
+    public synchronized void setName(String name) {
+        if (!Objects.equals(name, this.name)) {
+            changes.recordName();
+        }
         this.name = name;
     }
 
@@ -63,7 +115,21 @@ public class PlayerData {
     }
 
     public void setStatistics(PlayerStatistics statistics) {
+        Map<StatColumn, Double> before = new EnumMap<>(StatColumn.class);
+        for (StatColumn column : StatColumn.values()) {
+            before.put(column, column.read(this));
+        }
+
+        this.statistics.track(PlayerStatistics.UNTRACKED);
         this.statistics = statistics;
+        statistics.track(this::recordStat);
+
+        before.forEach((column, previous) -> {
+            double current = column.read(this);
+            if (current != previous) {
+                recordStat(column, column.getMerge() == StatColumn.Merge.ADD ? current - previous : current);
+            }
+        });
     }
 
     public int getCoins() {
@@ -71,16 +137,20 @@ public class PlayerData {
     }
 
     public void setCoins(int coins) {
-        this.coins = Math.max(0, coins);
+        coins = Math.max(0, coins);
+        recordStat(StatColumn.COINS, coins - this.coins);
+        this.coins = coins;
     }
 
     public void addCoins(int amount) {
         this.coins += amount;
+        recordStat(StatColumn.COINS, amount);
     }
 
     public boolean removeCoins(int amount) {
         if (this.coins >= amount) {
             this.coins -= amount;
+            recordStat(StatColumn.COINS, -amount);
             return true;
         }
         return false;
@@ -95,11 +165,20 @@ public class PlayerData {
     }
 
     public void setUnlockedAchievements(Set<String> achievements) {
-        this.unlockedAchievements = new HashSet<>(achievements);
+        for (String id : unlockedAchievements) {
+            if (!achievements.contains(id)) changes.recordAchievement(id, false);
+        }
+        for (String id : achievements) {
+            if (!unlockedAchievements.contains(id)) changes.recordAchievement(id, true);
+        }
+        this.unlockedAchievements = ConcurrentHashMap.newKeySet();
+        this.unlockedAchievements.addAll(achievements);
     }
 
     public void addAchievement(String achievementId) {
-        unlockedAchievements.add(achievementId);
+        if (unlockedAchievements.add(achievementId)) {
+            changes.recordAchievement(achievementId, true);
+        }
     }
 
     public boolean hasAchievement(String achievementId) {
@@ -111,11 +190,19 @@ public class PlayerData {
     }
 
     public void setOwnedCosmetics(Set<String> cosmetics) {
+        for (String id : ownedCosmetics) {
+            if (!cosmetics.contains(id)) changes.recordCosmetic(id, false);
+        }
+        for (String id : cosmetics) {
+            if (!ownedCosmetics.contains(id)) changes.recordCosmetic(id, true);
+        }
         this.ownedCosmetics = new HashSet<>(cosmetics);
     }
 
     public void addCosmetic(String cosmeticId) {
-        ownedCosmetics.add(cosmeticId);
+        if (ownedCosmetics.add(cosmeticId)) {
+            changes.recordCosmetic(cosmeticId, true);
+        }
     }
 
     public boolean hasCosmetic(String cosmeticId) {
@@ -127,15 +214,24 @@ public class PlayerData {
     }
 
     public void setEquippedCosmetics(Map<CosmeticType, String> equipped) {
+        for (CosmeticType type : CosmeticType.values()) {
+            if (!Objects.equals(equippedCosmetics.get(type), equipped.get(type))) {
+                changes.recordEquipped(type, equipped.get(type));
+            }
+        }
         this.equippedCosmetics = new EnumMap<>(equipped);
     }
 
     public void equipCosmetic(CosmeticType type, String cosmeticId) {
-        equippedCosmetics.put(type, cosmeticId);
+        if (!cosmeticId.equals(equippedCosmetics.put(type, cosmeticId))) {
+            changes.recordEquipped(type, cosmeticId);
+        }
     }
 
     public void unequipCosmetic(CosmeticType type) {
-        equippedCosmetics.remove(type);
+        if (equippedCosmetics.remove(type) != null) {
+            changes.recordEquipped(type, null);
+        }
     }
 
     public String getEquippedCosmetic(CosmeticType type) {
@@ -147,11 +243,15 @@ public class PlayerData {
     }
 
     public void setBattlePassXP(int xp) {
-        this.battlePassXP = Math.max(0, xp);
+        xp = Math.max(0, xp);
+        int gained = xp - this.battlePassXP;
+        this.battlePassXP = xp;
+        if (gained != 0) recordBattlePass(gained);
     }
 
     public void addBattlePassXP(int xp) {
         this.battlePassXP += xp;
+        if (xp != 0) recordBattlePass(xp);
     }
 
     public int getBattlePassTier() {
@@ -159,7 +259,10 @@ public class PlayerData {
     }
 
     public void setBattlePassTier(int tier) {
-        this.battlePassTier = Math.max(0, tier);
+        tier = Math.max(0, tier);
+        if (tier == this.battlePassTier) return;
+        this.battlePassTier = tier;
+        recordBattlePass(0);
     }
 
     public boolean hasPremiumBattlePass() {
@@ -167,33 +270,9 @@ public class PlayerData {
     }
 
     public void setPremiumBattlePass(boolean premium) {
+        if (premium == this.premiumBattlePass) return;
         this.premiumBattlePass = premium;
-    }
-
-    public int getDailyChallengesCompleted() {
-        return dailyChallengesCompleted;
-    }
-
-    public void setDailyChallengesCompleted(int completed) {
-        this.dailyChallengesCompleted = completed;
-    }
-
-    public void incrementDailyChallengesCompleted() {
-        this.dailyChallengesCompleted++;
-    }
-
-    public long getLastDailyChallengeReset() {
-        return lastDailyChallengeReset;
-    }
-
-    public void setLastDailyChallengeReset(long timestamp) {
-        this.lastDailyChallengeReset = timestamp;
-    }
-
-    public void resetDailyChallenges() {
-        this.dailyChallengesCompleted = 0;
-        this.lastDailyChallengeReset = System.currentTimeMillis();
-        this.challengeProgress.clear();
+        recordBattlePass(0);
     }
 
     public int getCrateCount(CrateType type) {
@@ -202,12 +281,14 @@ public class PlayerData {
 
     public void addCrate(CrateType type, int amount) {
         ownedCrates.merge(type, amount, Integer::sum);
+        changes.recordCrates(type, amount);
     }
 
     public boolean removeCrate(CrateType type, int amount) {
         int current = ownedCrates.getOrDefault(type, 0);
         if (current >= amount) {
             ownedCrates.put(type, current - amount);
+            changes.recordCrates(type, -amount);
             return true;
         }
         return false;
@@ -218,22 +299,49 @@ public class PlayerData {
     }
 
     public void setOwnedCrates(Map<CrateType, Integer> crates) {
+        for (CrateType type : CrateType.values()) {
+            changes.recordCrates(type, crates.getOrDefault(type, 0) - ownedCrates.getOrDefault(type, 0));
+        }
         this.ownedCrates = new EnumMap<>(crates);
     }
 
-    public int getChallengeProgress(String challengeId) {
-        return challengeProgress.getOrDefault(challengeId, 0);
+    /**
+     * Get challenge progress, or 0 if the stored counter belongs to another period
+     */
+    public int getChallengeProgress(String challengeId, long period) {
+        ChallengeProgress progress = challengeProgress.get(challengeId);
+        return progress != null && progress.period() == period ? progress.progress() : 0;
     }
 
-    public void setChallengeProgress(String challengeId, int progress) {
-        challengeProgress.put(challengeId, progress);
+    public void setChallengeProgress(String challengeId, long period, int progress) {
+        ChallengeProgress value = new ChallengeProgress(period, progress);
+        if (!value.equals(challengeProgress.put(challengeId, value))) {
+            changes.recordChallenge(challengeId, value);
+        }
     }
 
-    public void addChallengeProgress(String challengeId, int amount) {
-        challengeProgress.merge(challengeId, amount, Integer::sum);
+    /**
+     * Add challenge progress, restarting the counter if the period rolled over
+     */
+    public int addChallengeProgress(String challengeId, long period, int amount) {
+        int progress = getChallengeProgress(challengeId, period) + amount;
+        setChallengeProgress(challengeId, period, progress);
+        return progress;
     }
 
-    public Map<String, Integer> getAllChallengeProgress() {
+    /**
+     * Drop counters that belong to neither of the given periods
+     */
+    public void pruneChallengeProgress(long day, long week) {
+        challengeProgress.entrySet().removeIf(entry -> {
+            long period = entry.getValue().period();
+            if (period == day || period == week) return false;
+            changes.recordChallenge(entry.getKey(), null);
+            return true;
+        });
+    }
+
+    public Map<String, ChallengeProgress> getAllChallengeProgress() {
         return new HashMap<>(challengeProgress);
     }
 
@@ -243,10 +351,11 @@ public class PlayerData {
 
     public void setLastSeen(long timestamp) {
         this.lastSeen = timestamp;
+        recordStat(StatColumn.LAST_SEEN, timestamp);
     }
 
     public void updateLastSeen() {
-        this.lastSeen = System.currentTimeMillis();
+        setLastSeen(System.currentTimeMillis());
     }
 
     public long getTotalPlaytime() {
@@ -254,10 +363,12 @@ public class PlayerData {
     }
 
     public void setTotalPlaytime(long playtime) {
+        recordStat(StatColumn.TOTAL_PLAYTIME, playtime - this.totalPlaytime);
         this.totalPlaytime = playtime;
     }
 
     public void addPlaytime(long duration) {
         this.totalPlaytime += duration;
+        recordStat(StatColumn.TOTAL_PLAYTIME, duration);
     }
 }
\ No newline at end of file
@@ -0,0 +1,304 @@
+package dev.oumaimaa.plugin.config.playerdata;
+
+import dev.oumaimaa.plugin.constant.CosmeticType;
+import dev.oumaimaa.plugin.constant.CrateType;
+import dev.oumaimaa.plugin.record.ChallengeProgress;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+
+/**
+ * Changes to a player's data since it was last persisted, recorded by
+ * {@link PlayerData} as each value is changed.
+ * <p>
+ * Counters hold the amount to add, records hold the new value, and sets
+ * hold only the members added or removed, so a save writes only what changed
+ * and never overwrites increments made by another writer.
+ */
+public class PlayerDataDelta {
+
+    private final UUID uuid;
+    private String name;
+    private boolean nameChanged;
+    private final EnumMap<StatColumn, Double> stats;
+    private final Set<String> addedAchievements;
+    private final Set<String> removedAchievements;
+    private final Set<String> addedCosmetics;
+    private final Set<String> removedCosmetics;
+    private final Map<CosmeticType, String> equipped;
+    private final Set<CosmeticType> unequipped;
+    private final Map<CrateType, Integer> crates;
+    private final Map<String, ChallengeProgress> challenges;
+    private final Set<String> removedChallenges;
+    private boolean battlePassChanged;
+    private int battlePassXP;
+    private int battlePassTier;
+    private boolean premiumBattlePass;
+
+    private PlayerDataDelta(UUID uuid, String name) {
+        this.uuid = uuid;
+        this.name = name;
+        this.stats = new EnumMap<>(StatColumn.class);
+        this.addedAchievements = new HashSet<>();
+        this.removedAchievements = new HashSet<>();
+        this.addedCosmetics = new HashSet<>();
+        this.removedCosmetics = new HashSet<>();
+        this.equipped = new EnumMap<>(CosmeticType.class);
+        this.unequipped = EnumSet.noneOf(CosmeticType.class);
+        this.crates = new EnumMap<>(CrateType.class);
+        this.challenges = new HashMap<>();
+        this.removedChallenges = new HashSet<>();
+    }
+
+    /**
+     * Start an empty delta that a profile records its changes into
+     */
+    PlayerDataDelta(@NotNull UUID uuid) {
+        this(uuid, "");
+    }
+
+    /**
+     * Stamp the player's current name, which every save writes
+     */
+    @NotNull PlayerDataDelta named(String name) {
+        this.name = name;
+        return this;
+    }
+
+    void recordName() {
+        this.nameChanged = true;
+    }
+
+    /**
+     * Record a stat change: an increment for counters, the new value for records
+     */
+    void recordStat(@NotNull StatColumn column, double change) {
+        if (column.getMerge() == StatColumn.Merge.ADD) {
+            if (change == 0) return;
+            if (stats.merge(column, change, Double::sum) == 0) {
+                stats.remove(column);
+            }
+        } else {
+            stats.put(column, change);
+        }
+    }
+
+    void recordAchievement(@NotNull String id, boolean added) {
+        record(id, added, addedAchievements, removedAchievements);
+    }
+
+    void recordCosmetic(@NotNull String id, boolean added) {
+        record(id, added, addedCosmetics, removedCosmetics);
+    }
+
+    private static <T> void record(T member, boolean added, Set<T> addedSet, Set<T> removedSet) {
+        if (added) {
+            if (!removedSet.remove(member)) addedSet.add(member);
+        } else {
+            if (!addedSet.remove(member)) removedSet.add(member);
+        }
+    }
+
+    /**
+     * Record an equipped cosmetic, or null when the slot was cleared
+     */
+    void recordEquipped(@NotNull CosmeticType type, String cosmeticId) {
+        if (cosmeticId == null) {
+            equipped.remove(type);
+            unequipped.add(type);
+        } else {
+            unequipped.remove(type);
+            equipped.put(type, cosmeticId);
+        }
+    }
+
+    void recordCrates(@NotNull CrateType type, int change) {
+        if (change == 0) return;
+        if (crates.merge(type, change, Integer::sum) == 0) {
+            crates.remove(type);
+        }
+    }
+
+    /**
+     * Record challenge progress, or null when the counter was dropped
+     */
+    void recordChallenge(@NotNull String id, ChallengeProgress progress) {
+        if (progress == null) {
+            challenges.remove(id);
+            removedChallenges.add(id);
+        } else {
+            removedChallenges.remove(id);
+            challenges.put(id, progress);
+        }
+    }
+
+    /**
+     * Record gained battle pass XP along with the current tier and premium flag
+     */
+    void recordBattlePass(int xpGained, int tier, boolean premium) {
+        this.battlePassChanged = true;
+        this.battlePassXP += xpGained;
+        this.battlePassTier = tier;
+        this.premiumBattlePass = premium;
+    }
+
+    /**
+     * Combine this delta with a newer one, for retrying a failed save
+     */
+    @NotNull PlayerDataDelta merge(@NotNull PlayerDataDelta newer) {
+        PlayerDataDelta merged = new PlayerDataDelta(uuid, newer.name);
+        merged.nameChanged = nameChanged || newer.nameChanged;
+
+        merged.stats.putAll(stats);
+        for (Map.Entry<StatColumn, Double> entry : newer.stats.entrySet()) {
+            StatColumn.Merge merge = entry.getKey().getMerge();
+            merged.stats.merge(entry.getKey(), entry.getValue(), (older, value) -> combine(merge, older, value));
+        }
+
+        mergeSets(addedAchievements, removedAchievements, newer.addedAchievements, newer.removedAchievements,
+                merged.addedAchievements, merged.removedAchievements);
+        mergeSets(addedCosmetics, removedCosmetics, newer.addedCosmetics, newer.removedCosmetics,
+                merged.addedCosmetics, merged.removedCosmetics);
+
+        merged.equipped.putAll(equipped);
+        merged.unequipped.addAll(unequipped);
+        for (CosmeticType type : newer.unequipped) {
+            merged.equipped.remove(type);
+            merged.unequipped.add(type);
+        }
+        for (Map.Entry<CosmeticType, String> entry : newer.equipped.entrySet()) {
+            merged.unequipped.remove(entry.getKey());
+            merged.equipped.put(entry.getKey(), entry.getValue());
+        }
+
+        merged.crates.putAll(crates);
+        newer.crates.forEach((type, change) -> merged.crates.merge(type, change, Integer::sum));
+
+        merged.challenges.putAll(challenges);
+        merged.removedChallenges.addAll(removedChallenges);
+        for (String id : newer.removedChallenges) {
+            merged.challenges.remove(id);
+            merged.removedChallenges.add(id);
+        }
+        for (Map.Entry<String, ChallengeProgress> entry : newer.challenges.entrySet()) {
+            merged.removedChallenges.remove(entry.getKey());
+            merged.challenges.put(entry.getKey(), entry.getValue());
+        }
+
+        merged.battlePassChanged = battlePassChanged || newer.battlePassChanged;
+        merged.battlePassXP = battlePassXP + newer.battlePassXP;
+        merged.battlePassTier = newer.battlePassTier;
+        merged.premiumBattlePass = newer.premiumBattlePass;
+
+        return merged;
+    }
+
+    private static double combine(StatColumn.Merge merge, double older, double newer) {
+        return switch (merge) {
+            case ADD -> older + newer;
+            case MAX -> Math.max(older, newer);
+            case MIN_POSITIVE -> older <= 0 ? newer : newer <= 0 ? older : Math.min(older, newer);
+        };
+    }
+
+    private static <T> void mergeSets(Set<T> added, Set<T> removed, Set<T> newerAdded, Set<T> newerRemoved,
+                                      Set<T> mergedAdded, Set<T> mergedRemoved) {
+        mergedAdded.addAll(added);
+        mergedAdded.removeAll(newerRemoved);
+        mergedAdded.addAll(newerAdded);
+
+        mergedRemoved.addAll(removed);
+        mergedRemoved.removeAll(newerAdded);
+        mergedRemoved.addAll(newerRemoved);
+    }
+
+    /**
+     * Check if there is nothing to write
+     */
+    public boolean isEmpty() {
+        return !nameChanged && stats.isEmpty()
+                && addedAchievements.isEmpty() && removedAchievements.isEmpty()
+                && addedCosmetics.isEmpty() && removedCosmetics.isEmpty()
+                && equipped.isEmpty() && unequipped.isEmpty()
+                && crates.isEmpty()
+                && challenges.isEmpty() && removedChallenges.isEmpty()
+                && !battlePassChanged;
+    }
+
+    public UUID getUuid() {
+        return uuid;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public boolean isNameChanged() {
+        return nameChanged;
+    }
+
+    /**
+     * Get changed stat columns: increments for counters, new values for records
+     */
+    public Map<StatColumn, Double> getStats() {
+        return Collections.unmodifiableMap(stats);
+    }
+
+    public Set<String> getAddedAchievements() {
+        return Collections.unmodifiableSet(addedAchievements);
+    }
+
+    public Set<String> getRemovedAchievements() {
+        return Collections.unmodifiableSet(removedAchievements);
+    }
+
+    public Set<String> getAddedCosmetics() {
+        return Collections.unmodifiableSet(addedCosmetics);
+    }
+
+    public Set<String> getRemovedCosmetics() {
+        return Collections.unmodifiableSet(removedCosmetics);
+    }
+
+    public Map<CosmeticType, String> getEquipped() {
+        return Collections.unmodifiableMap(equipped);
+    }
+
+    public Set<CosmeticType> getUnequipped() {
+        return Collections.unmodifiableSet(unequipped);
+    }
+
+    /**
+     * Get crate count changes per type
+     */
+    public Map<CrateType, Integer> getCrates() {
+        return Collections.unmodifiableMap(crates);
+    }
+
+    public Map<String, ChallengeProgress> getChallenges() {
+        return Collections.unmodifiableMap(challenges);
+    }
+
+    public Set<String> getRemovedChallenges() {
+        return Collections.unmodifiableSet(removedChallenges);
+    }
+
+    public boolean isBattlePassChanged() {
+        return battlePassChanged;
+    }
+
+    /**
+     * Get battle pass XP gained
+     */
+    public int getBattlePassXP() {
+        return battlePassXP;
+    }
+
+    public int getBattlePassTier() {
+        return battlePassTier;
+    }
+
+    public boolean hasPremiumBattlePass() {
+        return premiumBattlePass;
+    }
+}
\ No newline at end of file
@@ -2,29 +2,52 @@ package dev.oumaimaa.plugin.config.playerdata;
 
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
 import dev.oumaimaa.Main;
+import dev.oumaimaa.plugin.config.MessageKey;
 import dev.oumaimaa.plugin.config.playerdata.database.DatabaseHandler;
 import dev.oumaimaa.plugin.config.playerdata.database.MySQLHandler;
 import dev.oumaimaa.plugin.config.playerdata.database.SQLiteHandler;
+import dev.oumaimaa.plugin.skeleton.GamePlayer;
+import org.bukkit.Bukkit;
+import org.bukkit.command.CommandSender;
 import org.bukkit.entity.Player;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
 
 /**
- * Manages player data with Caffeine caching for optimal performance
+ * Manages player data with Caffeine caching for optimal performance.
+ * <p>
+ * Profiles are loaded before a player joins and pinned while they are
+ * online; the cache only holds offline players. A miss never caches blank
+ * data: changes to a profile that may not be loaded yet go through
+ * {@link #whenLoaded(UUID, Consumer)}.
  */
 public class PlayerDataManager {
 
     private final Main plugin;
+    private final Map<UUID, PlayerData> online;
+    private final Map<UUID, CompletableFuture<PlayerData>> loading;
     private final Cache<UUID, PlayerData> cache;
     private DatabaseHandler database;
+    private PlayerDataWriter writer;
 
     public PlayerDataManager(Main plugin) {
         this.plugin = plugin;
+        this.online = new ConcurrentHashMap<>();
+        this.loading = new ConcurrentHashMap<>();
 
         int cacheSize = plugin.getConfigManager().getMainConfig()
                 .getInt("performance.cache.cache-size", 1000);
@@ -34,6 +57,9 @@ public class PlayerDataManager {
         this.cache = Caffeine.newBuilder()
                 .expireAfterAccess(cacheExpiry, TimeUnit.SECONDS)
                 .maximumSize(cacheSize)
+                .evictionListener((UUID uuid, PlayerData data, RemovalCause cause) -> {
+                    if (data != null) enqueueOnMain(data);
+                })
                 .recordStats()
                 .build();
 
@@ -53,6 +79,7 @@ public class PlayerDataManager {
         } else {
             database = new SQLiteHandler(plugin);
         }
+        writer = new PlayerDataWriter(plugin, database);
 
         database.initialize().thenAccept(success -> {
             if (success) {
@@ -81,11 +108,13 @@ public class PlayerDataManager {
     }
 
     /**
-     * Internal method to get player data
+     * Internal method to get player data.
+     * On a miss the profile starts loading and an unloaded stand-in is
+     * returned; it is never cached, so changes must go through {@link #whenLoaded}.
      */
     @NotNull
     private PlayerData getPlayerData(@NotNull UUID uuid, String name) {
-        PlayerData data = cache.getIfPresent(uuid);
+        PlayerData data = find(uuid);
 
         if (data != null) {
             if (name != null && !name.equals(data.getName())) {
@@ -94,59 +123,264 @@ public class PlayerDataManager {
             return data;
         }
 
+        CompletableFuture<PlayerData> future = load(uuid);
+        if (!plugin.getConfigManager().getMainConfig()
+                .getBoolean("performance.async-loads", true)) {
+            try {
+                return future.join();
+            } catch (CompletionException e) {
+                // Fall through to the stand-in, which is never saved
+            }
+        }
+
         data = new PlayerData(uuid);
         if (name != null) {
             data.setName(name);
         }
+        return data;
+    }
 
-        cache.put(uuid, data);
+    /**
+     * Get a loaded profile without triggering a load
+     */
+    private PlayerData find(@NotNull UUID uuid) {
+        PlayerData data = online.get(uuid);
+        return data != null ? data : cache.getIfPresent(uuid);
+    }
 
-        if (plugin.getConfigManager().getMainConfig()
-                .getBoolean("performance.async-loads", true)) {
-            database.loadPlayerData(uuid).thenAccept(loadedData -> {
-                if (name != null) {
-                    loadedData.setName(name);
-                }
-                loadedData.updateLastSeen();
-                cache.put(uuid, loadedData);
-            });
+    /**
+     * Load a profile, sharing the request with anyone already loading it
+     */
+    private @NotNull CompletableFuture<PlayerData> load(@NotNull UUID uuid) {
+        PlayerData present = find(uuid);
+        if (present != null) {
+            return CompletableFuture.completedFuture(present);
         }
 
-        return data;
+        CompletableFuture<PlayerData> future = loading.computeIfAbsent(uuid, key ->
+                database.loadPlayerData(key).thenApply(data -> {
+                    PlayerData existing = find(key);
+                    if (existing != null) return existing;
+
+                    cache.put(key, data);
+                    return data;
+                }));
+        future.whenComplete((data, throwable) -> loading.remove(uuid, future));
+        return future;
+    }
+
+    /**
+     * Check if a player's profile is loaded and safe to change
+     */
+    public boolean isLoaded(@NotNull UUID uuid) {
+        return find(uuid) != null;
+    }
+
+    /**
+     * Check a player's profile is loaded before they change it, telling them if it isn't
+     */
+    public boolean checkLoaded(@NotNull Player player) {
+        if (isLoaded(player.getUniqueId())) return true;
+
+        player.sendMessage(plugin.getMessageManager().get(MessageKey.ERROR_PROFILE_LOADING));
+        return false;
+    }
+
+    /**
+     * Check another player's profile is loaded before an admin changes it
+     */
+    public boolean checkLoaded(@NotNull CommandSender sender, @NotNull Player target) {
+        if (isLoaded(target.getUniqueId())) return true;
+
+        sender.sendMessage(plugin.getMessageManager().render(MessageKey.ERROR_TARGET_PROFILE_LOADING, target.getName()));
+        return false;
+    }
+
+    /**
+     * Run an action against a player's loaded profile, always on the main thread.
+     * Runs right away if called on the main thread with the profile loaded,
+     * otherwise it is scheduled there.
+     */
+    public void whenLoaded(@NotNull UUID uuid, @NotNull Consumer<PlayerData> action) {
+        if (!Bukkit.isPrimaryThread() && plugin.isEnabled()) {
+            Bukkit.getScheduler().runTask(plugin, () -> whenLoaded(uuid, action));
+            return;
+        }
+
+        PlayerData data = find(uuid);
+        if (data != null) {
+            action.accept(data);
+            return;
+        }
+
+        load(uuid).whenComplete((loaded, throwable) -> {
+            if (throwable != null) {
+                plugin.logWarning("Dropped a change to the profile of " + uuid + ", it failed to load");
+                return;
+            }
+            Bukkit.getScheduler().runTask(plugin, () -> action.accept(loaded));
+        });
+    }
+
+    /**
+     * Load a profile before the player joins, waiting up to the configured timeout.
+     * Called from the async pre-login event.
+     *
+     * @return false if the profile did not load in time
+     */
+    public boolean preLogin(@NotNull UUID uuid, @NotNull String name) {
+        try {
+            PlayerData data = load(uuid).get(plugin.getConfigManager().getProfileLoadTimeout(), TimeUnit.SECONDS);
+            data.setName(name);
+            return true;
+        } catch (TimeoutException e) {
+            plugin.logWarning("Timed out loading profile of " + name);
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (ExecutionException e) {
+            plugin.logSevere("Failed to load profile of " + name + ": " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Keep an online player's profile out of the cache so it can't expire or be evicted
+     */
+    public void pin(@NotNull Player player) {
+        whenLoaded(player.getUniqueId(), data -> {
+            if (!player.isOnline()) return;
+
+            data.setName(player.getName());
+            data.updateLastSeen();
+            online.put(player.getUniqueId(), data);
+            cache.invalidate(player.getUniqueId());
+        });
+    }
+
+    /**
+     * Hand a leaving player's profile back to the cache
+     */
+    public void unpin(@NotNull UUID uuid) {
+        PlayerData data = online.remove(uuid);
+        if (data != null) {
+            cache.put(uuid, data);
+        }
     }
 
     /**
      * Get player data asynchronously
      */
     public CompletableFuture<PlayerData> getPlayerDataAsync(UUID uuid) {
-        PlayerData cached = cache.getIfPresent(uuid);
-        if (cached != null) {
-            return CompletableFuture.completedFuture(cached);
+        return load(uuid);
+    }
+
+    /**
+     * Load every player not yet cached with one bulk query set,
+     * e.g. for a match that was just formed.
+     * Each player is claimed in the loading map first, so a single load
+     * started meanwhile waits for the bulk query instead of repeating it.
+     */
+    public CompletableFuture<Void> preload(@NotNull Collection<UUID> uuids) {
+        Map<UUID, CompletableFuture<PlayerData>> claimed = new LinkedHashMap<>();
+        for (UUID uuid : uuids) {
+            if (find(uuid) != null || claimed.containsKey(uuid)) continue;
+
+            CompletableFuture<PlayerData> future = new CompletableFuture<>();
+            if (loading.putIfAbsent(uuid, future) == null) {
+                claimed.put(uuid, future);
+            }
+        }
+        if (claimed.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
         }
 
-        return database.loadPlayerData(uuid).thenApply(data -> {
-            cache.put(uuid, data);
-            return data;
-        });
+        return database.loadPlayerData(claimed.keySet()).whenComplete((profiles, throwable) ->
+                claimed.forEach((uuid, future) -> {
+                    if (throwable != null) {
+                        future.completeExceptionally(throwable);
+                    } else {
+                        PlayerData data = find(uuid);
+                        if (data == null) {
+                            data = profiles.get(uuid);
+                            cache.put(uuid, data);
+                        }
+                        future.complete(data);
+                    }
+                    loading.remove(uuid, future);
+                })).thenApply(profiles -> null);
     }
 
     /**
      * Save player data
      */
     public void savePlayerData(@NotNull UUID uuid) {
-        PlayerData data = cache.getIfPresent(uuid);
+        PlayerData data = find(uuid);
         if (data != null) {
             data.updateLastSeen();
+            writer.enqueue(data);
 
-            if (plugin.getConfigManager().getMainConfig()
+            if (!plugin.getConfigManager().getMainConfig()
                     .getBoolean("performance.async-saves", true)) {
-                CompletableFuture.runAsync(() -> database.savePlayerData(data));
-            } else {
-                database.savePlayerData(data);
+                writer.flushNow().join();
             }
         }
     }
 
+    /**
+     * Queue a save from any thread; the changes are taken on the main thread
+     */
+    private void enqueueOnMain(@NotNull PlayerData data) {
+        if (Bukkit.isPrimaryThread() || !plugin.isEnabled()) {
+            writer.enqueue(data);
+        } else {
+            Bukkit.getScheduler().runTask(plugin, () -> writer.enqueue(data));
+        }
+    }
+
+    /**
+     * Apply the statistics of a finished match to every participant in one
+     * step and flush them together
+     */
+    public void commitMatch(@NotNull Collection<GamePlayer> participants, long duration) {
+        if (participants.isEmpty()) return;
+
+        for (GamePlayer gp : participants) {
+            // Copy the counters now, the game player may be reset before the profile loads
+            int kills = gp.getKills();
+            int deaths = gp.getDeaths();
+            double damageDealt = gp.getDamageDealt();
+            double damageTaken = gp.getDamageTaken();
+            int longestStreak = gp.getLongestStreak();
+            int currentStreak = gp.getCurrentStreak();
+            int placement = gp.getPlacement();
+            int chestsOpened = gp.getChestsOpened();
+            int coinsEarned = gp.getCoinsEarned();
+            long survivalTime = gp.getSurvivalTime();
+
+            whenLoaded(gp.getUuid(), data -> {
+                data.getStatistics().addMatch(
+                        kills,
+                        deaths,
+                        damageDealt,
+                        damageTaken,
+                        longestStreak,
+                        currentStreak,
+                        placement,
+                        chestsOpened,
+                        duration
+                );
+                data.addCoins(coinsEarned);
+                data.addPlaytime(survivalTime);
+                data.updateLastSeen();
+                writer.enqueue(data);
+            });
+        }
+
+        writer.flushNow();
+    }
+
     /**
      * Save player data by player
      */
@@ -155,20 +389,18 @@ public class PlayerDataManager {
     }
 
     /**
-     * Save all cached player data
+     * Save all online and cached player data
      */
     public void saveAll() {
-        plugin.logInfo("Saving all player data... (" + cache.estimatedSize() + " players)");
-
-        cache.asMap().values().parallelStream().forEach(data -> {
-            try {
-                database.savePlayerData(data);
-            } catch (Exception e) {
-                plugin.logSevere("Failed to save data for " + data.getName() + ": " + e.getMessage());
-            }
-        });
+        plugin.logInfo("Saving all player data... (" + (online.size() + cache.estimatedSize()) + " players)");
 
-        plugin.logInfo("All player data saved!");
+        for (PlayerData data : online.values()) {
+            writer.enqueue(data);
+        }
+        for (PlayerData data : cache.asMap().values()) {
+            writer.enqueue(data);
+        }
+        writer.flushNow();
     }
 
     /**
@@ -198,24 +430,43 @@ public class PlayerDataManager {
      */
     public String getCacheStats() {
         return String.format(
-                "Cache: %d entries, Hit Rate: %.2f%%, Evictions: %d",
+                "Cache: %d online, %d entries, %d loading, Hit Rate: %.2f%%, Evictions: %d",
+                online.size(),
                 cache.estimatedSize(),
+                loading.size(),
                 cache.stats().hitRate() * 100,
                 cache.stats().evictionCount()
         );
     }
 
+    /**
+     * Get write-behind queue statistics
+     */
+    public String getWriterStats() {
+        return writer.getStats();
+    }
+
+    /**
+     * Get database executor statistics
+     */
+    public String getDatabaseStats() {
+        return database.getStats();
+    }
+
     /**
      * Shutdown manager
      */
     public void shutdown() {
         plugin.logInfo("Shutting down player data manager...");
         saveAll();
+        writer.shutdown();
+        plugin.logInfo("All player data saved!");
 
         if (database != null) {
             database.close();
         }
 
+        online.clear();
         cache.invalidateAll();
         plugin.logInfo("Player data manager shutdown complete!");
     }
@@ -0,0 +1,210 @@
+package dev.oumaimaa.plugin.config.playerdata;
+
+import dev.oumaimaa.Main;
+import dev.oumaimaa.plugin.config.playerdata.database.DatabaseHandler;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Write-behind queue for player data.
+ * <p>
+ * Saving a player takes their changes right away, on the caller's thread, and
+ * queues them; repeated saves before the next flush merge into one entry.
+ * A single writer thread drains the queue in order, every flush interval or
+ * as soon as a full batch is waiting, and writes each batch in one
+ * transaction. Failed batches go back in the queue and are retried on the
+ * next flush.
+ */
+public class PlayerDataWriter {
+
+    private final Main plugin;
+    private final DatabaseHandler database;
+    private final Map<UUID, PlayerDataDelta> pending;
+    private final Queue<UUID> order;
+    private final ScheduledExecutorService writer;
+    private final AtomicBoolean flushRequested;
+    private final int batchSize;
+
+    private final AtomicLong enqueued;
+    private final AtomicLong coalesced;
+    private final AtomicLong written;
+    private final AtomicLong batches;
+    private final AtomicLong failures;
+    private final AtomicInteger highWaterMark;
+    private volatile long lastFlushMillis;
+
+    public PlayerDataWriter(@NotNull Main plugin, @NotNull DatabaseHandler database) {
+        this.plugin = plugin;
+        this.database = database;
+        this.pending = new ConcurrentHashMap<>();
+        this.order = new ConcurrentLinkedQueue<>();
+        this.flushRequested = new AtomicBoolean();
+        this.batchSize = plugin.getConfigManager().getWriteBehindBatchSize();
+
+        this.enqueued = new AtomicLong();
+        this.coalesced = new AtomicLong();
+        this.written = new AtomicLong();
+        this.batches = new AtomicLong();
+        this.failures = new AtomicLong();
+        this.highWaterMark = new AtomicInteger();
+
+        this.writer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "KawaiiRoyale-Writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        long interval = plugin.getConfigManager().getWriteBehindFlushInterval();
+        writer.scheduleWithFixedDelay(this::flush, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Queue a player's changes since their last save.
+     * Must be called from the main thread, which owns the profile.
+     */
+    public void enqueue(@NotNull PlayerData data) {
+        enqueued.incrementAndGet();
+
+        PlayerDataDelta delta = data.drainDelta();
+        if (delta.isEmpty()) {
+            coalesced.incrementAndGet();
+            return;
+        }
+        if (pending.merge(data.getUuid(), delta, PlayerDataDelta::merge) != delta) {
+            coalesced.incrementAndGet();
+            return;
+        }
+        order.add(data.getUuid());
+
+        int size = pending.size();
+        highWaterMark.accumulateAndGet(size, Math::max);
+        if (size >= batchSize) {
+            requestFlush();
+        }
+    }
+
+    /**
+     * Flush everything queued so far without waiting for the next interval
+     */
+    public @NotNull CompletableFuture<Void> flushNow() {
+        if (writer.isShutdown()) {
+            flush();
+            return CompletableFuture.completedFuture(null);
+        }
+        return CompletableFuture.runAsync(this::flush, writer);
+    }
+
+    private void requestFlush() {
+        if (flushRequested.compareAndSet(false, true) && !writer.isShutdown()) {
+            writer.execute(this::flush);
+        }
+    }
+
+    /**
+     * Write queued players batch by batch, stopping at the first failed batch
+     */
+    private synchronized void flush() {
+        flushRequested.set(false);
+
+        while (!order.isEmpty()) {
+            List<PlayerDataDelta> batch = new ArrayList<>(Math.min(batchSize, pending.size()));
+            UUID uuid;
+            while (batch.size() < batchSize && (uuid = order.poll()) != null) {
+                PlayerDataDelta delta = pending.remove(uuid);
+                if (delta != null) batch.add(delta);
+            }
+
+            if (!write(batch)) return;
+        }
+    }
+
+    private boolean write(@NotNull List<PlayerDataDelta> deltas) {
+        if (deltas.isEmpty()) return true;
+
+        long start = System.currentTimeMillis();
+        boolean success;
+        try {
+            success = database.writeDeltas(deltas);
+        } catch (Exception e) {
+            plugin.logSevere("Failed to write player data batch: " + e.getMessage());
+            e.printStackTrace();
+            success = false;
+        }
+
+        if (success) {
+            written.addAndGet(deltas.size());
+            batches.incrementAndGet();
+            lastFlushMillis = System.currentTimeMillis() - start;
+            return true;
+        }
+
+        failures.incrementAndGet();
+        for (PlayerDataDelta failed : deltas) {
+            // Anything queued since is newer than the failed changes
+            if (pending.merge(failed.getUuid(), failed, (newer, older) -> older.merge(newer)) == failed) {
+                order.add(failed.getUuid());
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Get number of players waiting to be written
+     */
+    public int getPendingCount() {
+        return pending.size();
+    }
+
+    /**
+     * Get writer statistics
+     */
+    public String getStats() {
+        return String.format(
+                "Writer: %d pending (peak %d), %d saves coalesced of %d, %d players in %d batches, " +
+                        "%d failed batches, last flush %dms",
+                pending.size(),
+                highWaterMark.get(),
+                coalesced.get(),
+                enqueued.get(),
+                written.get(),
+                batches.get(),
+                failures.get(),
+                lastFlushMillis
+        );
+    }
+
+    /**
+     * Shutdown, writing everything still queued before returning
+     */
+    public void shutdown() {
+        writer.shutdown();
+        boolean finished = false;
+        try {
+            int timeout = plugin.getConfigManager().getWriteBehindShutdownTimeout();
+            finished = writer.awaitTermination(timeout, TimeUnit.SECONDS);
+            if (!finished) {
+                plugin.logWarning("Player data writer did not finish in time");
+                writer.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            writer.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+
+        if (finished) {
+            flush();
+        }
+        if (!pending.isEmpty()) {
+            plugin.logSevere("Could not save data for " + pending.size() + " players!");
+        }
+    }
+}
\ No newline at end of file
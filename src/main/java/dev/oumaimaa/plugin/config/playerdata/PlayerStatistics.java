@@ -1,10 +1,19 @@
 package dev.oumaimaa.plugin.config.playerdata;
 
+import org.jetbrains.annotations.NotNull;
+
+import java.util.function.ObjDoubleConsumer;
+
 /**
- * Comprehensive player statistics tracking
+ * Comprehensive player statistics tracking.
+ * Every change to a persisted column is reported to the tracker, as an
+ * increment for counters and as the new value for records.
  */
 public class PlayerStatistics {
 
+    static final ObjDoubleConsumer<StatColumn> UNTRACKED = (column, change) -> {
+    };
+
     private int kills;
     private int deaths;
     private int wins;
@@ -23,6 +32,7 @@ public class PlayerStatistics {
     private int chestsOpened;
     private long fastestWin;
     private int mostKillsInGame;
+    private ObjDoubleConsumer<StatColumn> tracker;
 
     public PlayerStatistics() {
         this.kills = 0;
@@ -43,46 +53,95 @@ public class PlayerStatistics {
         this.chestsOpened = 0;
         this.fastestWin = 0;
         this.mostKillsInGame = 0;
+        this.tracker = UNTRACKED;
+    }
+
+    /**
+     * Report changes to the given tracker from now on
+     */
+    void track(@NotNull ObjDoubleConsumer<StatColumn> tracker) {
+        this.tracker = tracker;
     }
 
     public void addKill(int kills) {
         this.kills++;
+        tracker.accept(StatColumn.KILLS, 1);
         this.currentKillStreak++;
         if (this.currentKillStreak > this.longestKillStreak) {
             this.longestKillStreak = this.currentKillStreak;
+            tracker.accept(StatColumn.LONGEST_KILL_STREAK, longestKillStreak);
         }
     }
 
     public void addDeath(int deaths) {
         this.deaths++;
+        tracker.accept(StatColumn.DEATHS, 1);
         this.currentKillStreak = 0;
     }
 
     public void addWin(int wins) {
         this.wins++;
+        tracker.accept(StatColumn.WINS, 1);
     }
 
     public void addGame(int gamesPlayed) {
         this.gamesPlayed++;
+        tracker.accept(StatColumn.GAMES_PLAYED, 1);
+    }
+
+    /**
+     * Add the results of one finished match
+     */
+    public void addMatch(int kills, int deaths, double damageDealt, double damageTaken,
+                         int longestStreak, int endStreak, int placement, int chestsOpened, long duration) {
+        addGame(1);
+        setChestsOpened(this.chestsOpened + chestsOpened);
+        setKills(this.kills + kills);
+        setDeaths(this.deaths + deaths);
+        addDamageDealt(damageDealt);
+        addDamageTaken(damageTaken);
+
+        // A streak carries over between matches until the player dies
+        this.currentKillStreak = deaths > 0 ? endStreak : currentKillStreak + kills;
+        int longest = Math.max(longestStreak, currentKillStreak);
+        if (longest > longestKillStreak) {
+            setLongestKillStreak(longest);
+        }
+        updateMostKills(kills);
+
+        if (placement == 1) {
+            addWin(1);
+            updateFastestWin(duration);
+        }
+        if (placement > 0 && placement <= 3) {
+            addTop3Finish();
+        }
+        if (placement > 0 && placement <= 10) {
+            addTop10Finish();
+        }
     }
 
     public void addTop3Finish() {
         this.top3Finishes++;
+        tracker.accept(StatColumn.TOP3_FINISHES, 1);
     }
 
     public void addTop10Finish() {
         this.top10Finishes++;
+        tracker.accept(StatColumn.TOP10_FINISHES, 1);
     }
 
     public void updateFastestWin(long duration) {
         if (this.fastestWin == 0 || duration < this.fastestWin) {
             this.fastestWin = duration;
+            tracker.accept(StatColumn.FASTEST_WIN, fastestWin);
         }
     }
 
     public void updateMostKills(int kills) {
         if (kills > this.mostKillsInGame) {
             this.mostKillsInGame = kills;
+            tracker.accept(StatColumn.MOST_KILLS_IN_GAME, mostKillsInGame);
         }
     }
 
@@ -91,6 +150,7 @@ public class PlayerStatistics {
     }
 
     public void setKills(int kills) {
+        tracker.accept(StatColumn.KILLS, kills - this.kills);
         this.kills = kills;
     }
 
@@ -99,6 +159,7 @@ public class PlayerStatistics {
     }
 
     public void setDeaths(int deaths) {
+        tracker.accept(StatColumn.DEATHS, deaths - this.deaths);
         this.deaths = deaths;
     }
 
@@ -107,6 +168,7 @@ public class PlayerStatistics {
     }
 
     public void setWins(int wins) {
+        tracker.accept(StatColumn.WINS, wins - this.wins);
         this.wins = wins;
     }
 
@@ -115,6 +177,7 @@ public class PlayerStatistics {
     }
 
     public void setGamesPlayed(int gamesPlayed) {
+        tracker.accept(StatColumn.GAMES_PLAYED, gamesPlayed - this.gamesPlayed);
         this.gamesPlayed = gamesPlayed;
     }
 
@@ -123,11 +186,13 @@ public class PlayerStatistics {
     }
 
     public void setDamageDealt(double damageDealt) {
+        tracker.accept(StatColumn.DAMAGE_DEALT, damageDealt - this.damageDealt);
         this.damageDealt = damageDealt;
     }
 
     public void addDamageDealt(double damage) {
         this.damageDealt += damage;
+        tracker.accept(StatColumn.DAMAGE_DEALT, damage);
     }
 
     public double getDamageTaken() {
@@ -135,11 +200,13 @@ public class PlayerStatistics {
     }
 
     public void setDamageTaken(double damageTaken) {
+        tracker.accept(StatColumn.DAMAGE_TAKEN, damageTaken - this.damageTaken);
         this.damageTaken = damageTaken;
     }
 
     public void addDamageTaken(double damage) {
         this.damageTaken += damage;
+        tracker.accept(StatColumn.DAMAGE_TAKEN, damage);
     }
 
     public int getLongestKillStreak() {
@@ -148,6 +215,7 @@ public class PlayerStatistics {
 
     public void setLongestKillStreak(int longestKillStreak) {
         this.longestKillStreak = longestKillStreak;
+        tracker.accept(StatColumn.LONGEST_KILL_STREAK, longestKillStreak);
     }
 
     public int getCurrentKillStreak() {
@@ -179,11 +247,13 @@ public class PlayerStatistics {
     }
 
     public void setHeadshots(int headshots) {
+        tracker.accept(StatColumn.HEADSHOTS, headshots - this.headshots);
         this.headshots = headshots;
     }
 
     public void addHeadshot() {
         this.headshots++;
+        tracker.accept(StatColumn.HEADSHOTS, 1);
     }
 
     public int getAssists() {
@@ -191,11 +261,13 @@ public class PlayerStatistics {
     }
 
     public void setAssists(int assists) {
+        tracker.accept(StatColumn.ASSISTS, assists - this.assists);
         this.assists = assists;
     }
 
     public void addAssist() {
         this.assists++;
+        tracker.accept(StatColumn.ASSISTS, 1);
     }
 
     public int getTop3Finishes() {
@@ -203,6 +275,7 @@ public class PlayerStatistics {
     }
 
     public void setTop3Finishes(int top3Finishes) {
+        tracker.accept(StatColumn.TOP3_FINISHES, top3Finishes - this.top3Finishes);
         this.top3Finishes = top3Finishes;
     }
 
@@ -211,6 +284,7 @@ public class PlayerStatistics {
     }
 
     public void setTop10Finishes(int top10Finishes) {
+        tracker.accept(StatColumn.TOP10_FINISHES, top10Finishes - this.top10Finishes);
         this.top10Finishes = top10Finishes;
     }
 
@@ -219,11 +293,13 @@ public class PlayerStatistics {
     }
 
     public void setDistanceTraveled(double distanceTraveled) {
+        tracker.accept(StatColumn.DISTANCE_TRAVELED, distanceTraveled - this.distanceTraveled);
         this.distanceTraveled = distanceTraveled;
     }
 
     public void addDistanceTraveled(double distance) {
         this.distanceTraveled += distance;
+        tracker.accept(StatColumn.DISTANCE_TRAVELED, distance);
     }
 
     public int getItemsLooted() {
@@ -231,11 +307,13 @@ public class PlayerStatistics {
     }
 
     public void setItemsLooted(int itemsLooted) {
+        tracker.accept(StatColumn.ITEMS_LOOTED, itemsLooted - this.itemsLooted);
         this.itemsLooted = itemsLooted;
     }
 
     public void addItemLooted() {
         this.itemsLooted++;
+        tracker.accept(StatColumn.ITEMS_LOOTED, 1);
     }
 
     public int getChestsOpened() {
@@ -243,11 +321,13 @@ public class PlayerStatistics {
     }
 
     public void setChestsOpened(int chestsOpened) {
+        tracker.accept(StatColumn.CHESTS_OPENED, chestsOpened - this.chestsOpened);
         this.chestsOpened = chestsOpened;
     }
 
     public void addChestOpened() {
         this.chestsOpened++;
+        tracker.accept(StatColumn.CHESTS_OPENED, 1);
     }
 
     public long getFastestWin() {
@@ -256,6 +336,7 @@ public class PlayerStatistics {
 
     public void setFastestWin(long fastestWin) {
         this.fastestWin = fastestWin;
+        tracker.accept(StatColumn.FASTEST_WIN, fastestWin);
     }
 
     public int getMostKillsInGame() {
@@ -264,6 +345,7 @@ public class PlayerStatistics {
 
     public void setMostKillsInGame(int mostKillsInGame) {
         this.mostKillsInGame = mostKillsInGame;
+        tracker.accept(StatColumn.MOST_KILLS_IN_GAME, mostKillsInGame);
     }
 
     public double getKDRatio() {
@@ -0,0 +1,80 @@
+package dev.oumaimaa.plugin.config.playerdata;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Persisted numeric columns of player_stats and how a change to each is written
+ */
+public enum StatColumn {
+
+    KILLS("kills", Merge.ADD, false, data -> data.getStatistics().getKills()),
+    DEATHS("deaths", Merge.ADD, false, data -> data.getStatistics().getDeaths()),
+    WINS("wins", Merge.ADD, false, data -> data.getStatistics().getWins()),
+    GAMES_PLAYED("games_played", Merge.ADD, false, data -> data.getStatistics().getGamesPlayed()),
+    DAMAGE_DEALT("damage_dealt", Merge.ADD, true, data -> data.getStatistics().getDamageDealt()),
+    DAMAGE_TAKEN("damage_taken", Merge.ADD, true, data -> data.getStatistics().getDamageTaken()),
+    LONGEST_KILL_STREAK("longest_kill_streak", Merge.MAX, false, data -> data.getStatistics().getLongestKillStreak()),
+    HEADSHOTS("headshots", Merge.ADD, false, data -> data.getStatistics().getHeadshots()),
+    ASSISTS("assists", Merge.ADD, false, data -> data.getStatistics().getAssists()),
+    TOP3_FINISHES("top3_finishes", Merge.ADD, false, data -> data.getStatistics().getTop3Finishes()),
+    TOP10_FINISHES("top10_finishes", Merge.ADD, false, data -> data.getStatistics().getTop10Finishes()),
+    DISTANCE_TRAVELED("distance_traveled", Merge.ADD, true, data -> data.getStatistics().getDistanceTraveled()),
+    ITEMS_LOOTED("items_looted", Merge.ADD, false, data -> data.getStatistics().getItemsLooted()),
+    CHESTS_OPENED("chests_opened", Merge.ADD, false, data -> data.getStatistics().getChestsOpened()),
+    FASTEST_WIN("fastest_win", Merge.MIN_POSITIVE, false, data -> data.getStatistics().getFastestWin()),
+    MOST_KILLS_IN_GAME("most_kills_in_game", Merge.MAX, false, data -> data.getStatistics().getMostKillsInGame()),
+    COINS("coins", Merge.ADD, false, PlayerData::getCoins),
+    TOTAL_PLAYTIME("total_playtime", Merge.ADD, false, PlayerData::getTotalPlaytime),
+    LAST_SEEN("last_seen", Merge.MAX, false, PlayerData::getLastSeen);
+
+    private final String column;
+    private final Merge merge;
+    private final boolean decimal;
+    private final ToDoubleFunction<PlayerData> reader;
+
+    StatColumn(String column, Merge merge, boolean decimal, ToDoubleFunction<PlayerData> reader) {
+        this.column = column;
+        this.merge = merge;
+        this.decimal = decimal;
+        this.reader = reader;
+    }
+
+    /**
+     * Read the current value from player data
+     */
+    public double read(@NotNull PlayerData data) {
+        return reader.applyAsDouble(data);
+    }
+
+    public String getColumn() {
+        return column;
+    }
+
+    public Merge getMerge() {
+        return merge;
+    }
+
+    public boolean isDecimal() {
+        return decimal;
+    }
+
+    /**
+     * How a column combines with the stored value
+     */
+    public enum Merge {
+        /**
+         * Counter, written as an increment
+         */
+        ADD,
+        /**
+         * Record, keeps the highest value
+         */
+        MAX,
+        /**
+         * Record where lower is better and 0 means unset
+         */
+        MIN_POSITIVE
+    }
+}
\ No newline at end of file
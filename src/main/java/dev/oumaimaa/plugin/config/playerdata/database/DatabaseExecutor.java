@@ -0,0 +1,140 @@
+package dev.oumaimaa.plugin.config.playerdata.database;
+
+import dev.oumaimaa.Main;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Runs blocking JDBC work for one database handler.
+ * <p>
+ * Every task gets its own virtual thread, so waiting on the database never
+ * occupies the common pool. A semaphore sized to the connection pool bounds
+ * how many tasks run at once; the rest wait for a permit instead of queueing
+ * inside Hikari.
+ */
+final class DatabaseExecutor {
+
+    private final Main plugin;
+    private final ExecutorService threads;
+    private final Semaphore permits;
+    private final int concurrency;
+
+    private final AtomicInteger waiting;
+    private final AtomicInteger peakWaiting;
+    private final AtomicLong completed;
+    private final AtomicLong failed;
+    private final AtomicLong waitNanos;
+    private final AtomicLong maxWaitNanos;
+    private final AtomicLong queryNanos;
+    private final AtomicLong maxQueryNanos;
+
+    DatabaseExecutor(@NotNull Main plugin, @NotNull String name, int concurrency) {
+        this.plugin = plugin;
+        this.concurrency = Math.max(1, concurrency);
+        this.threads = Executors.newThreadPerTaskExecutor(
+                Thread.ofVirtual().name("KawaiiRoyale-" + name + "-", 0).factory());
+        this.permits = new Semaphore(this.concurrency, true);
+
+        this.waiting = new AtomicInteger();
+        this.peakWaiting = new AtomicInteger();
+        this.completed = new AtomicLong();
+        this.failed = new AtomicLong();
+        this.waitNanos = new AtomicLong();
+        this.maxWaitNanos = new AtomicLong();
+        this.queryNanos = new AtomicLong();
+        this.maxQueryNanos = new AtomicLong();
+    }
+
+    /**
+     * Run a task on its own virtual thread once a permit is free
+     */
+    <T> @NotNull CompletableFuture<T> supply(@NotNull Supplier<T> task) {
+        long submitted = System.nanoTime();
+        peakWaiting.accumulateAndGet(waiting.incrementAndGet(), Math::max);
+        try {
+            return CompletableFuture.supplyAsync(() -> run(task, submitted), threads);
+        } catch (RuntimeException e) {
+            // Rejected, e.g. after shutdown: the task will never take its place off the queue
+            waiting.decrementAndGet();
+            failed.incrementAndGet();
+            throw e;
+        }
+    }
+
+    /**
+     * Run a task on the calling thread once a permit is free
+     */
+    <T> T call(@NotNull Supplier<T> task) {
+        long submitted = System.nanoTime();
+        peakWaiting.accumulateAndGet(waiting.incrementAndGet(), Math::max);
+        return run(task, submitted);
+    }
+
+    private <T> T run(@NotNull Supplier<T> task, long submitted) {
+        permits.acquireUninterruptibly();
+        waiting.decrementAndGet();
+
+        long start = System.nanoTime();
+        record(waitNanos, maxWaitNanos, start - submitted);
+        try {
+            return task.get();
+        } catch (RuntimeException e) {
+            failed.incrementAndGet();
+            throw e;
+        } finally {
+            permits.release();
+            record(queryNanos, maxQueryNanos, System.nanoTime() - start);
+            completed.incrementAndGet();
+        }
+    }
+
+    private static void record(@NotNull AtomicLong total, @NotNull AtomicLong max, long nanos) {
+        total.addAndGet(nanos);
+        max.accumulateAndGet(nanos, Math::max);
+    }
+
+    /**
+     * Get executor statistics
+     */
+    @NotNull String getStats() {
+        long done = Math.max(1, completed.get());
+        return String.format(
+                "Database: %d/%d busy, %d waiting (peak %d), %d tasks, %d failed, " +
+                        "wait avg %.1fms max %.1fms, query avg %.1fms max %.1fms",
+                concurrency - permits.availablePermits(),
+                concurrency,
+                waiting.get(),
+                peakWaiting.get(),
+                completed.get(),
+                failed.get(),
+                waitNanos.get() / (double) done / 1_000_000,
+                maxWaitNanos.get() / 1_000_000.0,
+                queryNanos.get() / (double) done / 1_000_000,
+                maxQueryNanos.get() / 1_000_000.0
+        );
+    }
+
+    /**
+     * Stop accepting tasks and wait for running ones to finish
+     */
+    void shutdown() {
+        threads.shutdown();
+        try {
+            if (!threads.awaitTermination(10, TimeUnit.SECONDS)) {
+                plugin.logWarning("Database tasks did not finish in time");
+                threads.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            threads.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+}
\ No newline at end of file
@@ -1,10 +1,13 @@
 package dev.oumaimaa.plugin.config.playerdata.database;
 
 import dev.oumaimaa.plugin.config.playerdata.PlayerData;
+import dev.oumaimaa.plugin.config.playerdata.PlayerDataDelta;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 
@@ -24,9 +27,15 @@ public interface DatabaseHandler {
     CompletableFuture<PlayerData> loadPlayerData(UUID uuid);
 
     /**
-     * Save player data to database
+     * Load several players at once with one query per profile table
      */
-    void savePlayerData(PlayerData data);
+    CompletableFuture<Map<UUID, PlayerData>> loadPlayerData(Collection<UUID> uuids);
+
+    /**
+     * Apply player changes in one transaction on the calling thread,
+     * returning false if the write failed and was rolled back
+     */
+    boolean writeDeltas(Collection<PlayerDataDelta> deltas);
 
     /**
      * Get top players by statistic
@@ -48,6 +57,11 @@ public interface DatabaseHandler {
      */
     CompletableFuture<Integer> getTotalPlayers();
 
+    /**
+     * Get executor statistics: busy connections, waiting tasks, wait time and query latency
+     */
+    String getStats();
+
     /**
      * Close database connection
      */
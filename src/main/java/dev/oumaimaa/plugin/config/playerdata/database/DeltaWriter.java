@@ -0,0 +1,354 @@
+package dev.oumaimaa.plugin.config.playerdata.database;
+
+import dev.oumaimaa.plugin.config.playerdata.PlayerDataDelta;
+import dev.oumaimaa.plugin.config.playerdata.StatColumn;
+import dev.oumaimaa.plugin.constant.CosmeticType;
+import dev.oumaimaa.plugin.constant.CrateType;
+import dev.oumaimaa.plugin.record.ChallengeProgress;
+import org.jetbrains.annotations.NotNull;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Writes {@link PlayerDataDelta}s with increment-style SQL.
+ * <p>
+ * Counters are written as {@code col = col + ?} and records keep the best
+ * value, so concurrent writers never overwrite each other. Set tables only see
+ * the members that were added or removed. Stats are written as multi-row
+ * upserts and the other tables as batches across all deltas written together.
+ */
+final class DeltaWriter {
+
+    /**
+     * Bound parameters per statement, kept under SQLite's historical limit
+     */
+    private static final int MAX_PARAMETERS = 999;
+
+    private final Dialect dialect;
+    private final Map<Set<StatColumn>, StatUpsert> statUpserts;
+
+    DeltaWriter(Dialect dialect) {
+        this.dialect = dialect;
+        this.statUpserts = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Write deltas on a connection; the caller owns the transaction
+     */
+    void write(@NotNull Connection conn, @NotNull Collection<PlayerDataDelta> deltas) throws SQLException {
+        List<PlayerDataDelta> changed = new ArrayList<>(deltas.size());
+        for (PlayerDataDelta delta : deltas) {
+            if (!delta.isEmpty()) changed.add(delta);
+        }
+        if (changed.isEmpty()) return;
+
+        writeStats(conn, changed);
+        writeMembers(conn, changed, "player_achievements", "achievement_id",
+                PlayerDataDelta::getAddedAchievements, PlayerDataDelta::getRemovedAchievements);
+        writeMembers(conn, changed, "player_cosmetics", "cosmetic_id",
+                PlayerDataDelta::getAddedCosmetics, PlayerDataDelta::getRemovedCosmetics);
+        writeEquipped(conn, changed);
+        writeCrates(conn, changed);
+        writeBattlePass(conn, changed);
+        writeChallenges(conn, changed);
+    }
+
+    /**
+     * Upsert the changed stat columns, one multi-row statement per set of changed columns.
+     * Players without stat changes still get a row, since every other table references it.
+     */
+    private void writeStats(Connection conn, List<PlayerDataDelta> deltas) throws SQLException {
+        Map<Set<StatColumn>, List<PlayerDataDelta>> groups = new HashMap<>();
+        for (PlayerDataDelta delta : deltas) {
+            Set<StatColumn> columns = EnumSet.noneOf(StatColumn.class);
+            columns.addAll(delta.getStats().keySet());
+            groups.computeIfAbsent(columns, key -> new ArrayList<>()).add(delta);
+        }
+
+        for (Map.Entry<Set<StatColumn>, List<PlayerDataDelta>> group : groups.entrySet()) {
+            Set<StatColumn> columns = group.getKey();
+            List<PlayerDataDelta> rows = group.getValue();
+            StatUpsert upsert = statUpserts.computeIfAbsent(columns, this::buildStatUpsert);
+            int perStatement = Math.max(1, MAX_PARAMETERS / (2 + columns.size()));
+
+            for (int from = 0; from < rows.size(); from += perStatement) {
+                List<PlayerDataDelta> chunk = rows.subList(from, Math.min(rows.size(), from + perStatement));
+
+                try (PreparedStatement stmt = conn.prepareStatement(upsert.sql(chunk.size()))) {
+                    int index = 1;
+                    for (PlayerDataDelta delta : chunk) {
+                        stmt.setString(index++, delta.getUuid().toString());
+                        stmt.setString(index++, delta.getName());
+                        for (StatColumn column : columns) {
+                            index = bind(stmt, index, column, delta.getStats().get(column));
+                        }
+                    }
+                    stmt.executeUpdate();
+                }
+            }
+        }
+    }
+
+    private @NotNull StatUpsert buildStatUpsert(@NotNull Set<StatColumn> columns) {
+        StringBuilder head = new StringBuilder("INSERT INTO player_stats (uuid, name");
+        StringBuilder row = new StringBuilder("(?, ?");
+        String name = dialect.inserted("name");
+        StringBuilder assignments = new StringBuilder("name = CASE WHEN ")
+                .append(name).append(" = '' THEN name ELSE ").append(name).append(" END");
+
+        for (StatColumn column : columns) {
+            String col = column.getColumn();
+            String value = dialect.inserted(col);
+            head.append(", ").append(col);
+            row.append(", ?");
+            assignments.append(", ").append(col).append(" = ");
+            switch (column.getMerge()) {
+                case ADD -> assignments.append(col).append(" + ").append(value);
+                case MAX -> assignments.append(dialect.greatest()).append('(').append(col).append(", ")
+                        .append(value).append(')');
+                case MIN_POSITIVE -> assignments.append("CASE WHEN ").append(col).append(" = 0 OR ")
+                        .append(col).append(" > ").append(value).append(" THEN ").append(value)
+                        .append(" ELSE ").append(col).append(" END");
+            }
+        }
+
+        return new StatUpsert(head.append(") VALUES ").toString(), row.append(')').toString(),
+                dialect.onConflict("uuid", assignments.toString()));
+    }
+
+    private static int bind(PreparedStatement stmt, int index, @NotNull StatColumn column, double value)
+            throws SQLException {
+        if (column.isDecimal()) {
+            stmt.setDouble(index, value);
+        } else {
+            stmt.setLong(index, Math.round(value));
+        }
+        return index + 1;
+    }
+
+    /**
+     * Insert added and delete removed members of a (uuid, id) table
+     */
+    private void writeMembers(Connection conn, List<PlayerDataDelta> deltas, String table, String idColumn,
+                              java.util.function.Function<PlayerDataDelta, Set<String>> added,
+                              java.util.function.Function<PlayerDataDelta, Set<String>> removed) throws SQLException {
+        String insert = dialect.insertIgnore() + " " + table + " VALUES (?, ?, ?)";
+        String delete = "DELETE FROM " + table + " WHERE uuid = ? AND " + idColumn + " = ?";
+        long now = System.currentTimeMillis();
+
+        try (PreparedStatement inserts = conn.prepareStatement(insert);
+             PreparedStatement deletes = conn.prepareStatement(delete)) {
+            int insertCount = 0;
+            int deleteCount = 0;
+
+            for (PlayerDataDelta delta : deltas) {
+                String uuid = delta.getUuid().toString();
+                for (String id : added.apply(delta)) {
+                    inserts.setString(1, uuid);
+                    inserts.setString(2, id);
+                    inserts.setLong(3, now);
+                    inserts.addBatch();
+                    insertCount++;
+                }
+                for (String id : removed.apply(delta)) {
+                    deletes.setString(1, uuid);
+                    deletes.setString(2, id);
+                    deletes.addBatch();
+                    deleteCount++;
+                }
+            }
+
+            if (insertCount > 0) inserts.executeBatch();
+            if (deleteCount > 0) deletes.executeBatch();
+        }
+    }
+
+    private void writeEquipped(Connection conn, List<PlayerDataDelta> deltas) throws SQLException {
+        String upsert = dialect.replace() + " player_equipped_cosmetics VALUES (?, ?, ?)";
+        String delete = "DELETE FROM player_equipped_cosmetics WHERE uuid = ? AND cosmetic_type = ?";
+
+        try (PreparedStatement upserts = conn.prepareStatement(upsert);
+             PreparedStatement deletes = conn.prepareStatement(delete)) {
+            int upsertCount = 0;
+            int deleteCount = 0;
+
+            for (PlayerDataDelta delta : deltas) {
+                String uuid = delta.getUuid().toString();
+                for (Map.Entry<CosmeticType, String> entry : delta.getEquipped().entrySet()) {
+                    upserts.setString(1, uuid);
+                    upserts.setString(2, entry.getKey().name());
+                    upserts.setString(3, entry.getValue());
+                    upserts.addBatch();
+                    upsertCount++;
+                }
+                for (CosmeticType type : delta.getUnequipped()) {
+                    deletes.setString(1, uuid);
+                    deletes.setString(2, type.name());
+                    deletes.addBatch();
+                    deleteCount++;
+                }
+            }
+
+            if (upsertCount > 0) upserts.executeBatch();
+            if (deleteCount > 0) deletes.executeBatch();
+        }
+    }
+
+    private void writeCrates(Connection conn, List<PlayerDataDelta> deltas) throws SQLException {
+        String upsert = "INSERT INTO player_crates VALUES (?, ?, ?)"
+                + dialect.onConflict("uuid, crate_type", "amount = amount + " + dialect.inserted("amount"));
+
+        try (PreparedStatement stmt = conn.prepareStatement(upsert)) {
+            int count = 0;
+            for (PlayerDataDelta delta : deltas) {
+                for (Map.Entry<CrateType, Integer> entry : delta.getCrates().entrySet()) {
+                    stmt.setString(1, delta.getUuid().toString());
+                    stmt.setString(2, entry.getKey().name());
+                    stmt.setInt(3, entry.getValue());
+                    stmt.addBatch();
+                    count++;
+                }
+            }
+            if (count > 0) stmt.executeBatch();
+        }
+    }
+
+    /**
+     * Upsert battle pass progress; XP is added, tier and premium are the player's current values
+     */
+    private void writeBattlePass(Connection conn, List<PlayerDataDelta> deltas) throws SQLException {
+        String upsert = "INSERT INTO player_battle_pass VALUES (?, ?, ?, ?)" + dialect.onConflict("uuid",
+                "xp = xp + " + dialect.inserted("xp") + ", "
+                        + "tier = " + dialect.inserted("tier") + ", "
+                        + "has_premium = " + dialect.inserted("has_premium"));
+
+        try (PreparedStatement stmt = conn.prepareStatement(upsert)) {
+            int count = 0;
+            for (PlayerDataDelta delta : deltas) {
+                if (!delta.isBattlePassChanged()) continue;
+
+                stmt.setString(1, delta.getUuid().toString());
+                stmt.setInt(2, delta.getBattlePassXP());
+                stmt.setInt(3, delta.getBattlePassTier());
+                stmt.setInt(4, delta.hasPremiumBattlePass() ? 1 : 0);
+                stmt.addBatch();
+                count++;
+            }
+            if (count > 0) stmt.executeBatch();
+        }
+    }
+
+    private void writeChallenges(Connection conn, List<PlayerDataDelta> deltas) throws SQLException {
+        String upsert = dialect.replace() + " player_challenges VALUES (?, ?, ?, ?)";
+        String delete = "DELETE FROM player_challenges WHERE uuid = ? AND challenge_id = ?";
+
+        try (PreparedStatement upserts = conn.prepareStatement(upsert);
+             PreparedStatement deletes = conn.prepareStatement(delete)) {
+            int upsertCount = 0;
+            int deleteCount = 0;
+
+            for (PlayerDataDelta delta : deltas) {
+                String uuid = delta.getUuid().toString();
+                for (Map.Entry<String, ChallengeProgress> entry : delta.getChallenges().entrySet()) {
+                    upserts.setString(1, uuid);
+                    upserts.setString(2, entry.getKey());
+                    upserts.setLong(3, entry.getValue().period());
+                    upserts.setInt(4, entry.getValue().progress());
+                    upserts.addBatch();
+                    upsertCount++;
+                }
+                for (String id : delta.getRemovedChallenges()) {
+                    deletes.setString(1, uuid);
+                    deletes.setString(2, id);
+                    deletes.addBatch();
+                    deleteCount++;
+                }
+            }
+
+            if (upsertCount > 0) upserts.executeBatch();
+            if (deleteCount > 0) deletes.executeBatch();
+        }
+    }
+
+    /**
+     * Stat upsert for one set of changed columns, repeated for any number of rows
+     */
+    private record StatUpsert(String head, String row, String tail) {
+
+        @NotNull String sql(int rows) {
+            return head + String.join(", ", Collections.nCopies(rows, row)) + tail;
+        }
+    }
+
+    /**
+     * SQL differences between the supported databases
+     */
+    enum Dialect {
+        SQLITE {
+            @Override
+            String insertIgnore() {
+                return "INSERT OR IGNORE INTO";
+            }
+
+            @Override
+            String replace() {
+                return "INSERT OR REPLACE INTO";
+            }
+
+            @Override
+            String greatest() {
+                return "MAX";
+            }
+
+            @Override
+            String onConflict(String key, String assignments) {
+                return " ON CONFLICT(" + key + ") DO UPDATE SET " + assignments;
+            }
+
+            @Override
+            String inserted(String column) {
+                return "excluded." + column;
+            }
+        },
+        MYSQL {
+            @Override
+            String insertIgnore() {
+                return "INSERT IGNORE INTO";
+            }
+
+            @Override
+            String replace() {
+                return "REPLACE INTO";
+            }
+
+            @Override
+            String greatest() {
+                return "GREATEST";
+            }
+
+            @Override
+            String onConflict(String key, String assignments) {
+                return " ON DUPLICATE KEY UPDATE " + assignments;
+            }
+
+            @Override
+            String inserted(String column) {
+                return "VALUES(" + column + ")";
+            }
+        };
+
+        abstract String insertIgnore();
+
+        abstract String replace();
+
+        abstract String greatest();
+
+        abstract String onConflict(String key, String assignments);
+
+        abstract String inserted(String column);
+    }
+}
\ No newline at end of file
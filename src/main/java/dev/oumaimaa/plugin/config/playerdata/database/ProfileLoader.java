@@ -0,0 +1,180 @@
+package dev.oumaimaa.plugin.config.playerdata.database;
+
+import dev.oumaimaa.plugin.config.playerdata.PlayerData;
+import dev.oumaimaa.plugin.config.playerdata.PlayerStatistics;
+import dev.oumaimaa.plugin.constant.CosmeticType;
+import dev.oumaimaa.plugin.constant.CrateType;
+import org.jetbrains.annotations.NotNull;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.*;
+
+/**
+ * Loads whole player profiles for any number of players at once.
+ * <p>
+ * Every profile table is read with one {@code uuid IN (...)} query per
+ * chunk of players. When the driver accepts several statements at once the
+ * queries for a chunk are sent together and read back as consecutive result
+ * sets, so a chunk costs a single round trip.
+ */
+final class ProfileLoader {
+
+    /**
+     * Bound parameters per statement, kept under SQLite's historical limit
+     */
+    private static final int MAX_PARAMETERS = 999;
+
+    private static final List<Table> TABLES = List.of(
+            new Table("SELECT * FROM player_stats", ProfileLoader::readStats),
+            new Table("SELECT uuid, achievement_id FROM player_achievements",
+                    (rs, data) -> data.addAchievement(rs.getString("achievement_id"))),
+            new Table("SELECT uuid, cosmetic_id FROM player_cosmetics",
+                    (rs, data) -> data.addCosmetic(rs.getString("cosmetic_id"))),
+            new Table("SELECT uuid, cosmetic_type, cosmetic_id FROM player_equipped_cosmetics",
+                    (rs, data) -> data.equipCosmetic(CosmeticType.valueOf(rs.getString("cosmetic_type")),
+                            rs.getString("cosmetic_id"))),
+            new Table("SELECT * FROM player_battle_pass", ProfileLoader::readBattlePass),
+            new Table("SELECT uuid, crate_type, amount FROM player_crates",
+                    (rs, data) -> data.addCrate(CrateType.valueOf(rs.getString("crate_type")), rs.getInt("amount"))),
+            new Table("SELECT uuid, challenge_id, period, progress FROM player_challenges",
+                    (rs, data) -> data.setChallengeProgress(rs.getString("challenge_id"),
+                            rs.getLong("period"), rs.getInt("progress")))
+    );
+
+    private final boolean multiStatement;
+
+    /**
+     * @param multiStatement send the queries for a chunk as one multi-statement request
+     */
+    ProfileLoader(boolean multiStatement) {
+        this.multiStatement = multiStatement;
+    }
+
+    /**
+     * Load the profiles of the given players; players without rows get a fresh profile
+     */
+    @NotNull Map<UUID, PlayerData> load(@NotNull Connection conn, @NotNull Collection<UUID> uuids) throws SQLException {
+        Map<UUID, PlayerData> profiles = new LinkedHashMap<>();
+        for (UUID uuid : uuids) {
+            profiles.put(uuid, new PlayerData(uuid));
+        }
+
+        int perStatement = multiStatement ? MAX_PARAMETERS / TABLES.size() : MAX_PARAMETERS;
+        List<UUID> ids = new ArrayList<>(profiles.keySet());
+        for (int from = 0; from < ids.size(); from += perStatement) {
+            List<UUID> chunk = ids.subList(from, Math.min(ids.size(), from + perStatement));
+            if (multiStatement) {
+                loadTogether(conn, chunk, profiles);
+            } else {
+                for (Table table : TABLES) {
+                    loadTable(conn, table, chunk, profiles);
+                }
+            }
+        }
+
+        for (PlayerData data : profiles.values()) {
+            data.markLoaded();
+        }
+        return profiles;
+    }
+
+    private void loadTogether(Connection conn, List<UUID> chunk, Map<UUID, PlayerData> profiles) throws SQLException {
+        String where = where(chunk.size());
+        StringJoiner sql = new StringJoiner("; ");
+        for (Table table : TABLES) {
+            sql.add(table.select() + where);
+        }
+
+        try (PreparedStatement stmt = conn.prepareStatement(sql.toString())) {
+            int index = 1;
+            for (int i = 0; i < TABLES.size(); i++) {
+                index = bind(stmt, index, chunk);
+            }
+
+            boolean hasResults = stmt.execute();
+            for (Table table : TABLES) {
+                if (!hasResults) {
+                    throw new SQLException("Missing result set for: " + table.select());
+                }
+                try (ResultSet rs = stmt.getResultSet()) {
+                    read(rs, table, profiles);
+                }
+                hasResults = stmt.getMoreResults();
+            }
+        }
+    }
+
+    private void loadTable(Connection conn, Table table, List<UUID> chunk, Map<UUID, PlayerData> profiles)
+            throws SQLException {
+        try (PreparedStatement stmt = conn.prepareStatement(table.select() + where(chunk.size()))) {
+            bind(stmt, 1, chunk);
+            try (ResultSet rs = stmt.executeQuery()) {
+                read(rs, table, profiles);
+            }
+        }
+    }
+
+    private static void read(ResultSet rs, Table table, Map<UUID, PlayerData> profiles) throws SQLException {
+        while (rs.next()) {
+            PlayerData data = profiles.get(UUID.fromString(rs.getString("uuid")));
+            if (data != null) {
+                table.reader().read(rs, data);
+            }
+        }
+    }
+
+    private static @NotNull String where(int size) {
+        return " WHERE uuid IN (" + String.join(", ", Collections.nCopies(size, "?")) + ")";
+    }
+
+    private static int bind(PreparedStatement stmt, int index, @NotNull List<UUID> chunk) throws SQLException {
+        for (UUID uuid : chunk) {
+            stmt.setString(index++, uuid.toString());
+        }
+        return index;
+    }
+
+    private static void readStats(@NotNull ResultSet rs, @NotNull PlayerData data) throws SQLException {
+        data.setName(rs.getString("name"));
+        PlayerStatistics stats = data.getStatistics();
+        stats.setKills(rs.getInt("kills"));
+        stats.setDeaths(rs.getInt("deaths"));
+        stats.setWins(rs.getInt("wins"));
+        stats.setGamesPlayed(rs.getInt("games_played"));
+        stats.setDamageDealt(rs.getDouble("damage_dealt"));
+        stats.setDamageTaken(rs.getDouble("damage_taken"));
+        stats.setLongestKillStreak(rs.getInt("longest_kill_streak"));
+        stats.setHeadshots(rs.getInt("headshots"));
+        stats.setAssists(rs.getInt("assists"));
+        stats.setTop3Finishes(rs.getInt("top3_finishes"));
+        stats.setTop10Finishes(rs.getInt("top10_finishes"));
+        stats.setDistanceTraveled(rs.getDouble("distance_traveled"));
+        stats.setItemsLooted(rs.getInt("items_looted"));
+        stats.setChestsOpened(rs.getInt("chests_opened"));
+        stats.setFastestWin(rs.getLong("fastest_win"));
+        stats.setMostKillsInGame(rs.getInt("most_kills_in_game"));
+        data.setCoins(rs.getInt("coins"));
+        data.setTotalPlaytime(rs.getLong("total_playtime"));
+        data.setLastSeen(rs.getLong("last_seen"));
+    }
+
+    private static void readBattlePass(@NotNull ResultSet rs, @NotNull PlayerData data) throws SQLException {
+        data.setBattlePassXP(rs.getInt("xp"));
+        data.setBattlePassTier(rs.getInt("tier"));
+        data.setPremiumBattlePass(rs.getBoolean("has_premium"));
+    }
+
+    /**
+     * Reads one row into a profile
+     */
+    @FunctionalInterface
+    private interface RowReader {
+        void read(ResultSet rs, PlayerData data) throws SQLException;
+    }
+
+    private record Table(String select, RowReader reader) {
+    }
+}
\ No newline at end of file
@@ -14,5 +14,12 @@ public enum AchievementType {
     NO_ZONE_DAMAGE,
     DAMAGE_DEALT,
     DAMAGE_TAKEN,
-    FAST_WIN
+    FAST_WIN;
+
+    /**
+     * Check if lower values are better (the threshold is a maximum)
+     */
+    public boolean isLowerBetter() {
+        return this == FAST_WIN;
+    }
 }
@@ -5,6 +5,7 @@ package dev.oumaimaa.plugin.constant;
  */
 public enum GamePhase {
     PRE_GAME("Pre-game"),
+    DEPLOYING("Deploying"),
     GRACE_PERIOD("Grace Period"),
     ACTIVE_COMBAT("Active Combat"),
     FINAL_ZONE("Final Zone"),
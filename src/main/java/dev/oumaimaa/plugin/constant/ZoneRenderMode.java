@@ -0,0 +1,20 @@
+package dev.oumaimaa.plugin.constant;
+
+/**
+ * How the zone border is shown to players
+ */
+public enum ZoneRenderMode {
+    PARTICLES("Particles"),
+    WORLD_BORDER("World Border"),
+    NONE("None");
+
+    private final String displayName;
+
+    ZoneRenderMode(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+}
\ No newline at end of file
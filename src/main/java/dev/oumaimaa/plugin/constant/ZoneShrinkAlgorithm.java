@@ -0,0 +1,20 @@
+package dev.oumaimaa.plugin.constant;
+
+/**
+ * Algorithms used to generate zone stages when none are configured
+ */
+public enum ZoneShrinkAlgorithm {
+    LINEAR("Linear"),
+    EXPONENTIAL("Exponential"),
+    ADAPTIVE("Adaptive");
+
+    private final String displayName;
+
+    ZoneShrinkAlgorithm(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,12 @@
+package dev.oumaimaa.plugin.event;
+
+import java.util.UUID;
+
+/**
+ * A player in a game opened a chest
+ *
+ * @param chestsOpened chests the player opened in the current game
+ */
+public record ChestOpenEvent(UUID player, int chestsOpened) implements GameEvent {
+
+}
\ No newline at end of file
@@ -0,0 +1,15 @@
+package dev.oumaimaa.plugin.event;
+
+import java.util.UUID;
+
+/**
+ * Damage a player dealt and took since the last combat flush
+ *
+ * @param dealt      whole damage points dealt since the last event
+ * @param taken      whole damage points taken since the last event
+ * @param totalDealt lifetime damage dealt including the current game
+ * @param totalTaken lifetime damage taken including the current game
+ */
+public record DamageEvent(UUID player, int dealt, int taken, int totalDealt, int totalTaken) implements GameEvent {
+
+}
\ No newline at end of file
@@ -0,0 +1,17 @@
+package dev.oumaimaa.plugin.event;
+
+import java.util.UUID;
+
+/**
+ * An internal game event delivered through the {@link GameEventBus}.
+ * <p>
+ * Events are immutable snapshots taken on the main thread, so consumers on
+ * the progression worker never touch Bukkit or game state.
+ */
+public interface GameEvent {
+
+    /**
+     * Get the player the event is about
+     */
+    UUID player();
+}
\ No newline at end of file
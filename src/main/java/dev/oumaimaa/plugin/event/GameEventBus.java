@@ -0,0 +1,132 @@
+package dev.oumaimaa.plugin.event;
+
+import dev.oumaimaa.Main;
+import org.bukkit.Bukkit;
+import org.bukkit.scheduler.BukkitTask;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Typed bus for internal game events.
+ * <p>
+ * The combat and game code posts snapshots; progression systems subscribe
+ * and evaluate them on a single worker thread, in posting order. Anything a
+ * player should see, or that touches main thread state, is handed back with
+ * {@link #dispatch(Runnable)} and runs at the start of the next tick.
+ * Posting an event nobody subscribes to costs one map lookup.
+ */
+public class GameEventBus {
+
+    private final Main plugin;
+    private final Map<Class<? extends GameEvent>, List<Consumer<GameEvent>>> subscribers;
+    private final Queue<Runnable> effects;
+    private final ExecutorService worker;
+    private final BukkitTask drainTask;
+
+    public GameEventBus(Main plugin) {
+        this.plugin = plugin;
+        this.subscribers = new ConcurrentHashMap<>();
+        this.effects = new ConcurrentLinkedQueue<>();
+        this.worker = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "KawaiiRoyale-Progression");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.drainTask = Bukkit.getScheduler().runTaskTimer(plugin, this::drain, 1L, 1L);
+    }
+
+    /**
+     * Subscribe to an event type; the consumer runs on the progression worker
+     */
+    @SuppressWarnings("unchecked")
+    public <E extends GameEvent> void subscribe(@NotNull Class<E> type, @NotNull Consumer<? super E> consumer) {
+        subscribers.computeIfAbsent(type, key -> new CopyOnWriteArrayList<>())
+                .add((Consumer<GameEvent>) (Consumer<?>) consumer);
+    }
+
+    /**
+     * Post an event to its subscribers
+     */
+    public void post(@NotNull GameEvent event) {
+        List<Consumer<GameEvent>> consumers = subscribers.get(event.getClass());
+        if (consumers == null || consumers.isEmpty()) return;
+
+        if (worker.isShutdown()) {
+            deliver(event, consumers);
+            return;
+        }
+        worker.execute(() -> deliver(event, consumers));
+    }
+
+    private void deliver(GameEvent event, @NotNull List<Consumer<GameEvent>> consumers) {
+        for (Consumer<GameEvent> consumer : consumers) {
+            try {
+                consumer.accept(event);
+            } catch (Exception e) {
+                plugin.logSevere("Error handling " + event.getClass().getSimpleName() + ": " + e.getMessage());
+                e.printStackTrace();
+            }
+        }
+    }
+
+    /**
+     * Hand an effect back to the main thread
+     */
+    public void dispatch(@NotNull Runnable effect) {
+        if (Bukkit.isPrimaryThread() && worker.isShutdown()) {
+            effect.run();
+            return;
+        }
+        effects.add(effect);
+    }
+
+    /**
+     * Run effects handed back by the worker
+     */
+    private void drain() {
+        Runnable effect;
+        while ((effect = effects.poll()) != null) {
+            try {
+                effect.run();
+            } catch (Exception e) {
+                plugin.logSevere("Error applying progression effect: " + e.getMessage());
+                e.printStackTrace();
+            }
+        }
+    }
+
+    /**
+     * Get number of effects waiting for the main thread
+     */
+    public int getPendingEffects() {
+        return effects.size();
+    }
+
+    /**
+     * Shutdown, finishing queued events and applying their effects
+     */
+    public void shutdown() {
+        drainTask.cancel();
+        worker.shutdown();
+        try {
+            if (!worker.awaitTermination(5, TimeUnit.SECONDS)) {
+                plugin.logWarning("Progression worker did not finish in time");
+                worker.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            worker.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        drain();
+    }
+}
\ No newline at end of file
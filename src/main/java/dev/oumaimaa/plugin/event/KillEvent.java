@@ -0,0 +1,15 @@
+package dev.oumaimaa.plugin.event;
+
+import java.util.UUID;
+
+/**
+ * A player eliminated another player
+ *
+ * @param player     the killer
+ * @param victim     the eliminated player
+ * @param gameKills  the killer's kills in the current game
+ * @param totalKills the killer's lifetime kills including the current game
+ */
+public record KillEvent(UUID player, UUID victim, int gameKills, int totalKills) implements GameEvent {
+
+}
\ No newline at end of file
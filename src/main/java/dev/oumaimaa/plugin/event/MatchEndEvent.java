@@ -0,0 +1,18 @@
+package dev.oumaimaa.plugin.event;
+
+import java.util.UUID;
+
+/**
+ * A player's game ended, posted after the match statistics were committed
+ *
+ * @param winner      whether the player is among the winners
+ * @param placement   final placement, 1 being first
+ * @param gameKills   kills in the game
+ * @param gamesPlayed lifetime games played
+ * @param wins        lifetime wins
+ * @param duration    game duration in milliseconds
+ */
+public record MatchEndEvent(UUID player, boolean winner, int placement, int gameKills, int gamesPlayed, int wins,
+                            long duration) implements GameEvent {
+
+}
\ No newline at end of file
@@ -1,7 +1,6 @@
 package dev.oumaimaa.plugin.gui;
 
 import dev.oumaimaa.Main;
-import dev.oumaimaa.plugin.config.playerdata.PlayerData;
 import dev.oumaimaa.plugin.skeleton.Challenge;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
@@ -135,13 +134,11 @@ public class ChallengesGUI {
 
         meta.displayName(Component.text("§e§lChallenge Info").decoration(TextDecoration.ITALIC, false));
 
-        PlayerData data = plugin.getPlayerDataManager().getPlayerData(player);
-
         List<Component> lore = new ArrayList<>();
         lore.add(Component.text("§7Complete challenges to earn").decoration(TextDecoration.ITALIC, false));
         lore.add(Component.text("§7coins and battle pass XP!").decoration(TextDecoration.ITALIC, false));
         lore.add(Component.text("").decoration(TextDecoration.ITALIC, false));
-        lore.add(Component.text("§7Today's completed: §e" + data.getDailyChallengesCompleted())
+        lore.add(Component.text("§7Today's completed: §e" + plugin.getChallengeManager().getCompletedDailyCount(player))
                 .decoration(TextDecoration.ITALIC, false));
         lore.add(Component.text("").decoration(TextDecoration.ITALIC, false));
         lore.add(Component.text("§eChallenges reset daily at midnight!")
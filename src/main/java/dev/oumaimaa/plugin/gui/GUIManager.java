@@ -47,30 +47,40 @@ public class GUIManager implements Listener {
     }
 
     public void openCosmeticsShop(Player player, CosmeticType type) {
+        if (!plugin.getPlayerDataManager().checkLoaded(player)) return;
+
         CosmeticsShopGUI gui = new CosmeticsShopGUI(plugin, player, type);
         gui.open();
         openGUIs.put(player.getUniqueId(), gui);
     }
 
     public void openBattlePass(Player player, int startTier) {
+        if (!plugin.getPlayerDataManager().checkLoaded(player)) return;
+
         BattlePassGUI gui = new BattlePassGUI(plugin, player, startTier);
         gui.open();
         openGUIs.put(player.getUniqueId(), gui);
     }
 
     public void openChallenges(Player player) {
+        if (!plugin.getPlayerDataManager().checkLoaded(player)) return;
+
         ChallengesGUI gui = new ChallengesGUI(plugin, player);
         gui.open();
         openGUIs.put(player.getUniqueId(), gui);
     }
 
     public void openCrates(Player player) {
+        if (!plugin.getPlayerDataManager().checkLoaded(player)) return;
+
         CratesGUI gui = new CratesGUI(plugin, player);
         gui.open();
         openGUIs.put(player.getUniqueId(), gui);
     }
 
     public void openCrateShop(Player player) {
+        if (!plugin.getPlayerDataManager().checkLoaded(player)) return;
+
         CrateShopGUI gui = new CrateShopGUI(plugin, player);
         gui.open();
         openGUIs.put(player.getUniqueId(), gui);
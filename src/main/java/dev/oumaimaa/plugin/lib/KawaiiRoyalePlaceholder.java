@@ -80,7 +80,14 @@ public class KawaiiRoyalePlaceholder extends PlaceholderExpansion {
             case "current_kills" -> {
                 Game game = plugin.getGameManager().getPlayerGame(player);
                 if (game != null) {
-                    yield String.valueOf(game.getKills(player.getUniqueId()));
+                    yield String.valueOf(game.getRanking().getKills(player.getUniqueId()));
+                }
+                yield "0";
+            }
+            case "current_rank" -> {
+                Game game = plugin.getGameManager().getPlayerGame(player);
+                if (game != null) {
+                    yield String.valueOf(game.getRanking().getRank(player.getUniqueId()));
                 }
                 yield "0";
             }
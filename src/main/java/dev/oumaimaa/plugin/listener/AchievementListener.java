@@ -2,16 +2,20 @@ package dev.oumaimaa.plugin.listener;
 
 import dev.oumaimaa.Main;
 import dev.oumaimaa.plugin.constant.AchievementType;
-import dev.oumaimaa.plugin.skeleton.Game;
-import org.bukkit.entity.Player;
+import dev.oumaimaa.plugin.event.DamageEvent;
+import dev.oumaimaa.plugin.event.KillEvent;
+import dev.oumaimaa.plugin.event.MatchEndEvent;
+import dev.oumaimaa.plugin.manager.AchievementManager;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.Listener;
-import org.bukkit.event.player.PlayerJoinEvent;
 import org.bukkit.event.player.PlayerQuitEvent;
 import org.jetbrains.annotations.NotNull;
 
 /**
- * Listener for achievement tracking
+ * Listener for achievement tracking.
+ * Game events are delivered by the {@link dev.oumaimaa.plugin.event.GameEventBus}
+ * on the progression worker. Achievements are loaded on join by
+ * {@link PlayerJoinListener} once the profile has loaded.
  */
 public class AchievementListener implements Listener {
 
@@ -19,11 +23,10 @@ public class AchievementListener implements Listener {
 
     public AchievementListener(Main plugin) {
         this.plugin = plugin;
-    }
 
-    @EventHandler
-    public void onJoin(@NotNull PlayerJoinEvent event) {
-        plugin.getAchievementManager().loadPlayerAchievements(event.getPlayer());
+        plugin.getEventBus().subscribe(KillEvent.class, this::onKill);
+        plugin.getEventBus().subscribe(DamageEvent.class, this::onDamage);
+        plugin.getEventBus().subscribe(MatchEndEvent.class, this::onGameEnd);
     }
 
     @EventHandler
@@ -34,50 +37,41 @@ public class AchievementListener implements Listener {
     /**
      * Called when player gets a kill
      */
-    public void onKill(Player player, int totalKills, int gameKills) {
-        plugin.getAchievementManager().checkAchievement(player, AchievementType.KILLS, totalKills);
-        plugin.getAchievementManager().checkAchievement(player, AchievementType.KILLS_IN_GAME, gameKills);
+    private void onKill(@NotNull KillEvent event) {
+        plugin.getAchievementManager().checkAchievement(event.player(), AchievementType.KILLS, event.totalKills());
+        plugin.getAchievementManager().checkAchievement(event.player(), AchievementType.KILLS_IN_GAME, event.gameKills());
     }
 
     /**
-     * Called when player wins
+     * Called when player finishes a game
      */
-    public void onWin(Player player, @NotNull Game game) {
-        int totalWins = plugin.getPlayerDataManager().getPlayerData(player).getStatistics().getWins();
-        plugin.getAchievementManager().checkAchievement(player, AchievementType.WINS, totalWins);
+    private void onGameEnd(@NotNull MatchEndEvent event) {
+        AchievementManager achievements = plugin.getAchievementManager();
+        achievements.checkAchievement(event.player(), AchievementType.GAMES_PLAYED, event.gamesPlayed());
+
+        if (!event.winner()) return;
 
-        int kills = game.getKills(player.getUniqueId());
-        if (kills == 0) {
-            plugin.getAchievementManager().checkAchievement(player, AchievementType.WIN_NO_KILLS, 1);
+        achievements.checkAchievement(event.player(), AchievementType.WINS, event.wins());
+
+        if (event.gameKills() == 0) {
+            achievements.checkAchievement(event.player(), AchievementType.WIN_NO_KILLS, 1);
         }
 
-        long duration = (System.currentTimeMillis() - game.getStartTime()) / 1000;
+        long duration = event.duration() / 1000;
         if (duration < 300) {
-            plugin.getAchievementManager().checkAchievement(player, AchievementType.FAST_WIN, (int) duration);
+            achievements.checkAchievement(event.player(), AchievementType.FAST_WIN, (int) duration);
         }
     }
 
     /**
-     * Called when player finishes a game
-     */
-    public void onGameEnd(Player player) {
-        int totalGames = plugin.getPlayerDataManager().getPlayerData(player).getStatistics().getGamesPlayed();
-        plugin.getAchievementManager().checkAchievement(player, AchievementType.GAMES_PLAYED, totalGames);
-    }
-
-    /**
-     * Called when player deals damage
-     */
-    public void onDamageDealt(Player player, double damage) {
-        int totalDamage = (int) plugin.getPlayerDataManager().getPlayerData(player).getStatistics().getDamageDealt();
-        plugin.getAchievementManager().checkAchievement(player, AchievementType.DAMAGE_DEALT, totalDamage);
-    }
-
-    /**
-     * Called when player takes damage
+     * Called when player deals or takes damage
      */
-    public void onDamageTaken(Player player, double damage) {
-        int totalDamage = (int) plugin.getPlayerDataManager().getPlayerData(player).getStatistics().getDamageTaken();
-        plugin.getAchievementManager().checkAchievement(player, AchievementType.DAMAGE_TAKEN, totalDamage);
+    private void onDamage(@NotNull DamageEvent event) {
+        if (event.dealt() > 0) {
+            plugin.getAchievementManager().checkAchievement(event.player(), AchievementType.DAMAGE_DEALT, event.totalDealt());
+        }
+        if (event.taken() > 0) {
+            plugin.getAchievementManager().checkAchievement(event.player(), AchievementType.DAMAGE_TAKEN, event.totalTaken());
+        }
     }
 }
\ No newline at end of file
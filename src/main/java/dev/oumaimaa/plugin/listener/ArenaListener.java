@@ -0,0 +1,146 @@
+package dev.oumaimaa.plugin.listener;
+
+import com.destroystokyo.paper.event.block.BlockDestroyEvent;
+import dev.oumaimaa.Main;
+import dev.oumaimaa.plugin.skeleton.BlockJournal;
+import org.bukkit.block.Block;
+import org.bukkit.block.BlockState;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.block.*;
+import org.bukkit.event.entity.EntityChangeBlockEvent;
+import org.bukkit.event.entity.EntityExplodeEvent;
+import org.bukkit.event.player.PlayerBucketEmptyEvent;
+import org.bukkit.event.player.PlayerBucketFillEvent;
+import org.bukkit.event.world.WorldLoadEvent;
+import org.bukkit.event.world.WorldUnloadEvent;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+
+/**
+ * Records block changes in journaled arena worlds so they can be rolled back,
+ * and keeps arena locations bound to their worlds as they load and unload.
+ * Block handlers run at MONITOR, before the change is applied to the world.
+ */
+public class ArenaListener implements Listener {
+    private final Main plugin;
+
+    public ArenaListener(Main plugin) {
+        this.plugin = plugin;
+    }
+
+    private void record(@NotNull Block block) {
+        BlockJournal journal = plugin.getArenaManager().getJournal(block.getWorld());
+        if (journal != null) {
+            journal.record(block);
+        }
+    }
+
+    private void recordAll(@NotNull List<Block> blocks) {
+        if (blocks.isEmpty()) return;
+
+        BlockJournal journal = plugin.getArenaManager().getJournal(blocks.getFirst().getWorld());
+        if (journal == null) return;
+
+        for (Block block : blocks) {
+            journal.record(block);
+        }
+    }
+
+    @EventHandler
+    public void onWorldLoad(@NotNull WorldLoadEvent event) {
+        plugin.getArenaManager().bindWorld(event.getWorld());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onWorldUnload(@NotNull WorldUnloadEvent event) {
+        plugin.getArenaManager().unbindWorld(event.getWorld());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPlace(@NotNull BlockPlaceEvent event) {
+        BlockJournal journal = plugin.getArenaManager().getJournal(event.getBlock().getWorld());
+        if (journal == null) return;
+
+        if (event instanceof BlockMultiPlaceEvent multiPlace) {
+            for (BlockState state : multiPlace.getReplacedBlockStates()) {
+                journal.record(state);
+            }
+        } else {
+            journal.record(event.getBlockReplacedState());
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBreak(@NotNull BlockBreakEvent event) {
+        record(event.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onDestroy(@NotNull BlockDestroyEvent event) {
+        record(event.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onEntityExplode(@NotNull EntityExplodeEvent event) {
+        recordAll(event.blockList());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockExplode(@NotNull BlockExplodeEvent event) {
+        record(event.getBlock());
+        recordAll(event.blockList());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBurn(@NotNull BlockBurnEvent event) {
+        record(event.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onIgnite(@NotNull BlockIgniteEvent event) {
+        record(event.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onFlow(@NotNull BlockFromToEvent event) {
+        record(event.getToBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onFade(@NotNull BlockFadeEvent event) {
+        record(event.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onForm(@NotNull BlockFormEvent event) {
+        record(event.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onSpread(@NotNull BlockSpreadEvent event) {
+        record(event.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onLeavesDecay(@NotNull LeavesDecayEvent event) {
+        record(event.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onEntityChangeBlock(@NotNull EntityChangeBlockEvent event) {
+        record(event.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBucketEmpty(@NotNull PlayerBucketEmptyEvent event) {
+        record(event.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBucketFill(@NotNull PlayerBucketFillEvent event) {
+        record(event.getBlock());
+    }
+}
\ No newline at end of file
@@ -1,13 +1,11 @@
 package dev.oumaimaa.plugin.listener;
 
 import dev.oumaimaa.Main;
-import dev.oumaimaa.plugin.config.playerdata.PlayerData;
-import dev.oumaimaa.plugin.constant.AchievementType;
-import dev.oumaimaa.plugin.constant.ChallengeType;
 import dev.oumaimaa.plugin.skeleton.Game;
 import dev.oumaimaa.plugin.skeleton.GamePlayer;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
 import org.bukkit.event.entity.EntityDamageByEntityEvent;
 import org.bukkit.event.entity.PlayerDeathEvent;
@@ -33,33 +31,16 @@ public class CombatListener implements Listener {
 
         GamePlayer victimGP = plugin.getGameManager().getGamePlayer(victim);
 
-        if (killer != null && plugin.getGameManager().isInGame(killer)) {
-            GamePlayer killerGP = plugin.getGameManager().getGamePlayer(killer);
-
-            killerGP.addKill();
-
-            PlayerData killerData = plugin.getPlayerDataManager().getPlayerData(killer);
-            killerData.getStatistics().addKill(1);
-            killerData.addCoins(plugin.getConfigManager().getMainConfig().getInt("rewards.kill-coins", 10));
-
-            plugin.getBattlePassManager().addXP(killer, 50, "Kill");
-
-            int totalKills = killerData.getStatistics().getKills();
-            int gameKills = game.getKills(killer.getUniqueId());
-            plugin.getAchievementManager().checkAchievement(killer, AchievementType.KILLS, totalKills);
-            plugin.getAchievementManager().checkAchievement(killer, AchievementType.KILLS_IN_GAME, gameKills);
-            plugin.getChallengeManager().updateProgress(killer, ChallengeType.KILLS, 1);
-
-            game.eliminatePlayer(victimGP, killerGP);
-        } else {
-            game.eliminatePlayer(victimGP, null);
-        }
-
-        PlayerData victimData = plugin.getPlayerDataManager().getPlayerData(victim);
-        victimData.getStatistics().addDeath(1);
+        // The game counts the kill, so the ranking and the game player stay in step
+        GamePlayer killerGP = killer != null ? game.getGamePlayer(killer.getUniqueId()) : null;
+        game.eliminatePlayer(victimGP, killerGP);
     }
 
-    @EventHandler
+    /**
+     * Hot path: only bumps primitive counters on the game players.
+     * The game tick turns them into damage events for progression.
+     */
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
     public void onDamage(@NotNull EntityDamageByEntityEvent event) {
         if (!(event.getEntity() instanceof Player victim)) return;
         if (!(event.getDamager() instanceof Player attacker)) return;
@@ -69,38 +50,14 @@ public class CombatListener implements Listener {
 
         double damage = event.getFinalDamage();
 
-        PlayerData attackerData = plugin.getPlayerDataManager().getPlayerData(attacker);
-        attackerData.getStatistics().setDamageDealt(
-                attackerData.getStatistics().getDamageDealt() + damage
-        );
-
-        PlayerData victimData = plugin.getPlayerDataManager().getPlayerData(victim);
-        victimData.getStatistics().setDamageTaken(
-                victimData.getStatistics().getDamageTaken() + damage
-        );
-
-        plugin.getAchievementManager().checkAchievement(
-                attacker,
-                AchievementType.DAMAGE_DEALT,
-                (int) attackerData.getStatistics().getDamageDealt()
-        );
-
-        plugin.getAchievementManager().checkAchievement(
-                victim,
-                AchievementType.DAMAGE_TAKEN,
-                (int) victimData.getStatistics().getDamageTaken()
-        );
-
-        plugin.getChallengeManager().updateProgress(
-                attacker,
-                ChallengeType.DAMAGE_DEALT,
-                (int) damage
-        );
+        GamePlayer victimGP = game.getGamePlayer(victim.getUniqueId());
+        if (victimGP != null) {
+            victimGP.addDamageTaken(damage);
+        }
 
-        plugin.getChallengeManager().updateProgress(
-                victim,
-                ChallengeType.DAMAGE_TAKEN,
-                (int) damage
-        );
+        GamePlayer attackerGP = game.getGamePlayer(attacker.getUniqueId());
+        if (attackerGP != null) {
+            attackerGP.addDamageDealt(damage);
+        }
     }
 }
\ No newline at end of file
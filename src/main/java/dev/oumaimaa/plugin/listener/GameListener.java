@@ -1,20 +1,28 @@
 package dev.oumaimaa.plugin.listener;
 
 import dev.oumaimaa.Main;
-import dev.oumaimaa.plugin.config.playerdata.PlayerData;
-import dev.oumaimaa.plugin.constant.AchievementType;
-import dev.oumaimaa.plugin.constant.ChallengeType;
-import dev.oumaimaa.plugin.constant.CrateType;
+import dev.oumaimaa.plugin.config.MessageKey;
+import dev.oumaimaa.plugin.config.playerdata.PlayerStatistics;
+import dev.oumaimaa.plugin.constant.PlayerState;
+import dev.oumaimaa.plugin.event.ChestOpenEvent;
+import dev.oumaimaa.plugin.event.MatchEndEvent;
+import dev.oumaimaa.plugin.skeleton.BlockJournal;
 import dev.oumaimaa.plugin.skeleton.Game;
 import dev.oumaimaa.plugin.skeleton.GamePlayer;
-import net.kyori.adventure.text.Component;
-import net.kyori.adventure.text.format.NamedTextColor;
+import org.bukkit.Location;
+import org.bukkit.block.Chest;
+import org.bukkit.block.DoubleChest;
 import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
+import org.bukkit.event.inventory.InventoryOpenEvent;
+import org.bukkit.inventory.InventoryHolder;
 import org.jetbrains.annotations.NotNull;
 
 /**
- * Game event listener with Phase 3 integration
+ * Game event listener with Phase 3 integration.
+ * Progression reacts to the game events posted here through the event bus.
  */
 public class GameListener implements Listener {
     private final Main plugin;
@@ -24,49 +32,61 @@ public class GameListener implements Listener {
     }
 
     /**
-     * Called when a game ends - integrate with Phase 3
+     * Called when a game ends - commits match statistics, then posts one match event per player.
+     * A player won if they placed first, the same rule the statistics use.
      */
     public void onGameEnd(@NotNull Game game) {
-        var winners = game.getAlivePlayers();
-
+        int winCoins = plugin.getConfigManager().getMainConfig().getInt("rewards.win-coins", 150);
         for (GamePlayer gp : game.getAllPlayers()) {
-            Player player = gp.getPlayer();
-            PlayerData data = plugin.getPlayerDataManager().getPlayerData(player);
-
-            data.getStatistics().addGame(1);
+            if (gp.getPlacement() == 1) {
+                gp.addCoins(winCoins);
+            }
+        }
 
-            plugin.getBattlePassManager().addXP(player, 100, "Game Completed");
-            plugin.getChallengeManager().updateProgress(player, ChallengeType.GAMES_PLAYED, 1);
-            plugin.getAchievementManager().checkAchievement(
-                    player,
-                    AchievementType.GAMES_PLAYED,
-                    data.getStatistics().getGamesPlayed()
-            );
+        // One in-memory update and one database transaction for the whole match
+        plugin.getPlayerDataManager().commitMatch(game.getAllPlayers(), game.getDuration());
 
-            boolean isWinner = winners.contains(gp);
+        for (GamePlayer gp : game.getAllPlayers()) {
+            PlayerStatistics stats = plugin.getPlayerDataManager().getPlayerData(gp.getUuid()).getStatistics();
+            boolean isWinner = gp.getPlacement() == 1;
 
             if (isWinner) {
-                data.getStatistics().addWin(1);
+                gp.getPlayer().sendMessage(plugin.getMessageManager().render(MessageKey.GAME_WIN_COINS, winCoins));
+            }
 
-                int winCoins = plugin.getConfigManager().getMainConfig().getInt("rewards.win-coins", 150);
-                data.addCoins(winCoins);
+            plugin.getEventBus().post(new MatchEndEvent(
+                    gp.getUuid(),
+                    isWinner,
+                    gp.getPlacement(),
+                    gp.getKills(),
+                    stats.getGamesPlayed(),
+                    stats.getWins(),
+                    game.getDuration()
+            ));
+        }
+    }
+
+    /**
+     * Count chests opened by alive players in a game
+     */
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onInventoryOpen(@NotNull InventoryOpenEvent event) {
+        InventoryHolder holder = event.getInventory().getHolder(false);
+        if (!(holder instanceof Chest) && !(holder instanceof DoubleChest)) return;
+        if (!(event.getPlayer() instanceof Player player)) return;
 
-                player.sendMessage(Component.text("+ " + winCoins + " coins for winning!")
-                        .color(NamedTextColor.GOLD));
+        Game game = plugin.getGameManager().getPlayerGame(player);
+        if (game == null) return;
 
-                plugin.getBattlePassManager().addXP(player, 500, "Victory");
-                plugin.getAchievementManager().checkAchievement(
-                        player,
-                        AchievementType.WINS,
-                        data.getStatistics().getWins()
-                );
-                plugin.getChallengeManager().updateProgress(player, ChallengeType.WINS, 1);
+        GamePlayer gp = game.getGamePlayer(player.getUniqueId());
+        if (gp == null || gp.getState() != PlayerState.ALIVE) return;
 
-                // Give random crate
-                if (Math.random() < 0.3) { // 30% chance
-                    plugin.getCrateManager().giveCrate(player, CrateType.COMMON, 1);
-                }
-            }
+        Location location = event.getInventory().getLocation();
+        if (location == null) return;
+
+        long position = BlockJournal.pack(location.getBlockX(), location.getBlockY(), location.getBlockZ());
+        if (gp.addChestOpened(position)) {
+            plugin.getEventBus().post(new ChestOpenEvent(gp.getUuid(), gp.getChestsOpened()));
         }
     }
 }
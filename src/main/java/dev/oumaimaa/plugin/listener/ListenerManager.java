@@ -6,6 +6,7 @@ import org.bukkit.event.Listener;
 public class ListenerManager {
 
     private final Main plugin;
+    private GameListener gameListener;
 
     public ListenerManager(Main plugin) {
         this.plugin = plugin;
@@ -14,9 +15,11 @@ public class ListenerManager {
     public void registerListeners() {
         registerListener(new PlayerJoinListener(plugin));
         registerListener(new PlayerQuitListener(plugin));
-        registerListener(new GameListener(plugin));
+        this.gameListener = new GameListener(plugin);
+        registerListener(gameListener);
         registerListener(new CombatListener(plugin));
         registerListener(new ZoneListener(plugin));
+        registerListener(new ArenaListener(plugin));
         registerListener(new AchievementListener(plugin));
     }
 
@@ -24,6 +27,10 @@ public class ListenerManager {
         plugin.getServer().getPluginManager().registerEvents(listener, plugin);
     }
 
+    public GameListener getGameListener() {
+        return gameListener;
+    }
+
     public void shutdown() {
         // Nothing needed here
     }
@@ -1,9 +1,12 @@
 package dev.oumaimaa.plugin.listener;
 
 import dev.oumaimaa.Main;
+import dev.oumaimaa.plugin.config.MessageKey;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
+import org.bukkit.event.player.AsyncPlayerPreLoginEvent;
 import org.bukkit.event.player.PlayerJoinEvent;
 import org.jetbrains.annotations.NotNull;
 
@@ -14,14 +17,32 @@ public class PlayerJoinListener implements Listener {
         this.plugin = plugin;
     }
 
+    /**
+     * Load the profile while the player is still logging in
+     */
+    @EventHandler(priority = EventPriority.HIGHEST)
+    public void onPreLogin(@NotNull AsyncPlayerPreLoginEvent event) {
+        if (event.getLoginResult() != AsyncPlayerPreLoginEvent.Result.ALLOWED) return;
+
+        boolean loaded = plugin.getPlayerDataManager().preLogin(event.getUniqueId(), event.getName());
+        if (!loaded && plugin.getConfigManager().isProfileLoadKickOnTimeout()) {
+            event.disallow(AsyncPlayerPreLoginEvent.Result.KICK_OTHER,
+                    plugin.getMessageManager().get(MessageKey.ERROR_PROFILE_NOT_LOADED));
+        }
+    }
+
     @EventHandler
     public void onJoin(@NotNull PlayerJoinEvent event) {
         Player player = event.getPlayer();
 
-        plugin.getPlayerDataManager().getPlayerData(player);
-        plugin.getDisplayManager().getScoreboardManager().createScoreboard(player);
-        plugin.getAchievementManager().loadPlayerAchievements(player);
-        plugin.getCosmeticManager().loadPlayerCosmetics(player);
-        plugin.getChallengeManager().loadPlayerChallenges(player);
+        plugin.getPlayerDataManager().pin(player);
+        plugin.getPlayerDataManager().whenLoaded(player.getUniqueId(), data -> {
+            if (!player.isOnline()) return;
+
+            plugin.getDisplayManager().getScoreboardManager().createScoreboard(player);
+            plugin.getAchievementManager().loadPlayerAchievements(player);
+            plugin.getCosmeticManager().loadPlayerCosmetics(player);
+            plugin.getChallengeManager().loadPlayerChallenges(player);
+        });
     }
 }
\ No newline at end of file
@@ -27,6 +27,7 @@ public class PlayerQuitListener implements Listener {
         }
 
         plugin.getPlayerDataManager().savePlayerData(player.getUniqueId());
+        plugin.getPlayerDataManager().unpin(player.getUniqueId());
         plugin.getGameManager().removeGamePlayer(player.getUniqueId());
 
         plugin.getDisplayManager().getScoreboardManager().removeScoreboard(player);
@@ -1,35 +1,49 @@
 package dev.oumaimaa.plugin.manager;
 
 import dev.oumaimaa.Main;
+import dev.oumaimaa.plugin.config.MessageKey;
+import dev.oumaimaa.plugin.config.MessageManager;
 import dev.oumaimaa.plugin.config.playerdata.PlayerData;
 import dev.oumaimaa.plugin.constant.AchievementCategory;
 import dev.oumaimaa.plugin.constant.AchievementDifficulty;
 import dev.oumaimaa.plugin.constant.AchievementType;
 import dev.oumaimaa.plugin.record.Achievement;
 import net.kyori.adventure.text.Component;
-import net.kyori.adventure.text.format.NamedTextColor;
 import net.kyori.adventure.title.Title;
+import org.bukkit.Bukkit;
 import org.bukkit.Sound;
 import org.bukkit.entity.Player;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.time.Duration;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
- * Manages player achievements
+ * Manages player achievements.
+ * <p>
+ * Achievements are indexed per type into arrays sorted from the easiest
+ * threshold to the hardest, and every player keeps a cursor per type at the
+ * first threshold they haven't met. A check is a single compare against
+ * that threshold unless something unlocks. Checks run on the progression
+ * worker; the unlock, rewards and announcements are handed back to the main thread.
  */
 public class AchievementManager {
 
+    private static final Achievement[] NONE = new Achievement[0];
+
     private final Main plugin;
     private final Map<String, Achievement> achievements;
-    private final Map<UUID, Set<String>> playerAchievements;
+    private final Map<UUID, Progress> playerAchievements;
+    private volatile Map<AchievementType, Achievement[]> tiers;
+    private volatile int indexVersion;
 
     public AchievementManager(Main plugin) {
         this.plugin = plugin;
         this.achievements = new LinkedHashMap<>();
         this.playerAchievements = new ConcurrentHashMap<>();
+        this.tiers = new EnumMap<>(AchievementType.class);
 
         registerAchievements();
     }
@@ -210,48 +224,112 @@ public class AchievementManager {
      */
     public void register(Achievement achievement) {
         achievements.put(achievement.id(), achievement);
+        rebuildIndex();
+    }
+
+    /**
+     * Rebuild the per-type threshold arrays, easiest threshold first
+     */
+    private void rebuildIndex() {
+        Map<AchievementType, List<Achievement>> grouped = new EnumMap<>(AchievementType.class);
+        for (Achievement achievement : achievements.values()) {
+            grouped.computeIfAbsent(achievement.type(), type -> new ArrayList<>()).add(achievement);
+        }
+
+        Map<AchievementType, Achievement[]> index = new EnumMap<>(AchievementType.class);
+        for (Map.Entry<AchievementType, List<Achievement>> entry : grouped.entrySet()) {
+            Comparator<Achievement> order = Comparator.comparingInt(Achievement::requiredValue);
+            if (entry.getKey().isLowerBetter()) {
+                order = order.reversed();
+            }
+
+            Achievement[] sorted = entry.getValue().toArray(NONE);
+            Arrays.sort(sorted, order);
+            index.put(entry.getKey(), sorted);
+        }
+
+        this.tiers = index;
+        this.indexVersion++;
     }
 
     /**
      * Check and award achievement to player
      */
-    public void checkAchievement(Player player, AchievementType type, int value) {
-        PlayerData data = plugin.getPlayerDataManager().getPlayerData(player);
-        Set<String> unlocked = playerAchievements.computeIfAbsent(
-                player.getUniqueId(),
-                k -> data.getUnlockedAchievements()
-        );
+    public void checkAchievement(UUID player, AchievementType type, int value) {
+        Progress progress = getProgress(player);
+        if (progress == null) return;
 
-        for (Achievement achievement : achievements.values()) {
-            if (achievement.type() == type && !unlocked.contains(achievement.id())) {
-                if (achievement.checkProgress(value)) {
-                    unlockAchievement(player, achievement);
-                }
+        Achievement[] sorted = tiers.getOrDefault(type, NONE);
+
+        int cursor = progress.cursors[type.ordinal()];
+        if (cursor >= sorted.length || !sorted[cursor].checkProgress(value)) {
+            return;
+        }
+
+        // Thresholds are sorted, so everything met is contiguous from the cursor
+        while (cursor < sorted.length && sorted[cursor].checkProgress(value)) {
+            if (!progress.unlocked.contains(sorted[cursor].id())) {
+                unlockAchievement(player, progress, sorted[cursor]);
             }
+            cursor++;
+        }
+        progress.cursors[type.ordinal()] = skipUnlocked(sorted, cursor, progress.unlocked);
+    }
+
+    /**
+     * Get the cached progress for a player.
+     * Progress only exists between their profile loading on join and quitting,
+     * so nothing is evaluated against a stand-in profile.
+     */
+    private @Nullable Progress getProgress(@NotNull UUID player) {
+        Progress progress = playerAchievements.get(player);
+        if (progress == null) return null;
+
+        if (progress.version != indexVersion) {
+            resetCursors(progress);
+        }
+        return progress;
+    }
+
+    private void resetCursors(@NotNull Progress progress) {
+        Map<AchievementType, Achievement[]> index = tiers;
+        for (AchievementType type : AchievementType.values()) {
+            progress.cursors[type.ordinal()] = skipUnlocked(index.getOrDefault(type, NONE), 0, progress.unlocked);
+        }
+        progress.version = indexVersion;
+    }
+
+    private static int skipUnlocked(Achievement[] sorted, int cursor, Set<String> unlocked) {
+        while (cursor < sorted.length && unlocked.contains(sorted[cursor].id())) {
+            cursor++;
         }
+        return cursor;
     }
 
     /**
      * Unlock achievement for player
      */
-    private void unlockAchievement(Player player, @NotNull Achievement achievement) {
-        PlayerData data = plugin.getPlayerDataManager().getPlayerData(player);
+    private void unlockAchievement(UUID uuid, @NotNull Progress progress, @NotNull Achievement achievement) {
+        progress.unlocked.add(achievement.id());
+
+        plugin.getEventBus().dispatch(() -> {
+            plugin.getPlayerDataManager().whenLoaded(uuid, data -> data.addAchievement(achievement.id()));
+            giveRewards(uuid, achievement);
 
-        Set<String> unlocked = playerAchievements.get(player.getUniqueId());
-        unlocked.add(achievement.id());
-        data.addAchievement(achievement.id());
-        giveRewards(player, achievement);
-        announceAchievement(player, achievement);
+            Player player = Bukkit.getPlayer(uuid);
+            if (player != null) {
+                announceAchievement(player, achievement);
+            }
+        });
     }
 
     /**
      * Give achievement rewards
      */
-    private void giveRewards(Player player, @NotNull Achievement achievement) {
+    private void giveRewards(UUID player, @NotNull Achievement achievement) {
         // TODO: Add economy rewards if Vault is present
         // For now, just track the coins internally
-        PlayerData data = plugin.getPlayerDataManager().getPlayerData(player);
-        data.addCoins(achievement.reward());
+        plugin.getPlayerDataManager().whenLoaded(player, data -> data.addCoins(achievement.reward()));
     }
 
     /**
@@ -259,12 +337,9 @@ public class AchievementManager {
      */
     private void announceAchievement(@NotNull Player player, @NotNull Achievement achievement) {
 
-        Component title = plugin.getMiniMessage().deserialize(
-                "<gradient:#ffd700:#ffed4e>Achievement Unlocked!</gradient>"
-        );
-        Component subtitle = plugin.getMiniMessage().deserialize(
-                "<yellow>" + achievement.name()
-        );
+        MessageManager messages = plugin.getMessageManager();
+        Component title = messages.get(MessageKey.ACHIEVEMENT_TITLE);
+        Component subtitle = messages.render(MessageKey.ACHIEVEMENT_SUBTITLE, achievement.name());
 
         player.showTitle(Title.title(
                 title,
@@ -277,32 +352,15 @@ public class AchievementManager {
         ));
 
         // Chat message
-        player.sendMessage(Component.text("")
-                .append(Component.text("━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━").color(NamedTextColor.GOLD))
-                .append(Component.newline())
-                .append(Component.text("  Achievement Unlocked!").color(NamedTextColor.YELLOW))
-                .append(Component.newline())
-                .append(Component.text("  ").color(NamedTextColor.GRAY))
-                .append(Component.text(achievement.name()).color(NamedTextColor.GOLD))
-                .append(Component.newline())
-                .append(Component.text("  " + achievement.description()).color(NamedTextColor.GRAY))
-                .append(Component.newline())
-                .append(Component.text("  +").color(NamedTextColor.GREEN))
-                .append(Component.text(achievement.reward() + " coins").color(NamedTextColor.YELLOW))
-                .append(Component.newline())
-                .append(Component.text("━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━").color(NamedTextColor.GOLD))
-        );
+        player.sendMessage(messages.render(MessageKey.ACHIEVEMENT_UNLOCKED,
+                achievement.name(), achievement.description(), achievement.reward()));
 
         player.playSound(player.getLocation(), Sound.UI_TOAST_CHALLENGE_COMPLETE, 1.0f, 1.0f);
 
         // Broadcast to server
         if (achievement.difficulty() == AchievementDifficulty.HARD) {
-            plugin.getServer().broadcast(
-                    Component.text(player.getName()).color(NamedTextColor.GOLD)
-                            .append(Component.text(" has unlocked ").color(NamedTextColor.GRAY))
-                            .append(Component.text(achievement.name()).color(NamedTextColor.YELLOW))
-                            .append(Component.text("!").color(NamedTextColor.GRAY))
-            );
+            plugin.getServer().broadcast(messages.render(MessageKey.ACHIEVEMENT_BROADCAST,
+                    player.getName(), achievement.name()));
         }
     }
 
@@ -324,15 +382,16 @@ public class AchievementManager {
      * Check if player has achievement
      */
     public boolean hasAchievement(@NotNull Player player, String achievementId) {
-        Set<String> unlocked = playerAchievements.get(player.getUniqueId());
-        return unlocked != null && unlocked.contains(achievementId);
+        Progress progress = playerAchievements.get(player.getUniqueId());
+        return progress != null && progress.unlocked.contains(achievementId);
     }
 
     /**
      * Get player's unlocked achievements
      */
     public Set<String> getUnlockedAchievements(@NotNull Player player) {
-        return playerAchievements.getOrDefault(player.getUniqueId(), new HashSet<>());
+        Progress progress = playerAchievements.get(player.getUniqueId());
+        return progress != null ? Collections.unmodifiableSet(progress.unlocked) : Collections.emptySet();
     }
 
     /**
@@ -351,7 +410,9 @@ public class AchievementManager {
      */
     public void loadPlayerAchievements(Player player) {
         PlayerData data = plugin.getPlayerDataManager().getPlayerData(player);
-        playerAchievements.put(player.getUniqueId(), new HashSet<>(data.getUnlockedAchievements()));
+        Progress progress = new Progress(data.getUnlockedAchievements());
+        resetCursors(progress);
+        playerAchievements.put(player.getUniqueId(), progress);
     }
 
     /**
@@ -360,4 +421,20 @@ public class AchievementManager {
     public void unloadPlayerAchievements(UUID uuid) {
         playerAchievements.remove(uuid);
     }
+
+    /**
+     * Unlocked achievements and per-type threshold cursors of one player
+     */
+    private static final class Progress {
+        private final Set<String> unlocked;
+        private final int[] cursors;
+        private int version;
+
+        private Progress(Set<String> unlocked) {
+            this.unlocked = ConcurrentHashMap.newKeySet();
+            this.unlocked.addAll(unlocked);
+            this.cursors = new int[AchievementType.values().length];
+            this.version = -1;
+        }
+    }
 }
\ No newline at end of file
@@ -2,24 +2,52 @@ package dev.oumaimaa.plugin.manager;
 
 import dev.oumaimaa.Main;
 import dev.oumaimaa.plugin.skeleton.Arena;
+import dev.oumaimaa.plugin.skeleton.BlockJournal;
+import dev.oumaimaa.plugin.task.ArenaRollbackTask;
+import org.bukkit.GameRule;
+import org.bukkit.World;
+import org.bukkit.WorldCreator;
 import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.configuration.file.FileConfiguration;
+import org.bukkit.scheduler.BukkitTask;
 import org.jetbrains.annotations.NotNull;
 
+import java.io.File;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 
 /**
- * Manages all game arenas
+ * Manages all game arenas.
+ * <p>
+ * Arena worlds are loaded when a game is about to use them and unloaded
+ * again once they have been idle for the configured time, so only worlds
+ * with games (or recently finished games) stay in memory.
  */
 public class ArenaManager {
 
     private final Main plugin;
     private final Map<String, Arena> arenas;
+    private final Map<UUID, BlockJournal> journals;
+    private final Map<UUID, ArenaRollbackTask> rollbacks;
+    private final Map<String, Integer> occupancy;
+    private final Map<String, Long> idleSince;
+    private final Map<String, CompletableFuture<World>> loading;
+    private final Map<String, World.Environment> environments;
+    private final BukkitTask idleTask;
 
     public ArenaManager(Main plugin) {
         this.plugin = plugin;
         this.arenas = new HashMap<>();
+        this.journals = new HashMap<>();
+        this.rollbacks = new HashMap<>();
+        this.occupancy = new HashMap<>();
+        this.idleSince = new HashMap<>();
+        this.loading = new HashMap<>();
+        this.environments = new HashMap<>();
         loadArenas();
+
+        long interval = plugin.getConfigManager().getArenaWorldCheckInterval() * 20L;
+        this.idleTask = plugin.getServer().getScheduler().runTaskTimer(plugin, this::unloadIdleWorlds, interval, interval);
     }
 
     /**
@@ -101,10 +129,253 @@ public class ArenaManager {
         if (arenas.isEmpty()) {
             return null;
         }
-        List<Arena> arenaList = new ArrayList<>(arenas.values());
+        List<Arena> arenaList = new ArrayList<>();
+        for (Arena arena : arenas.values()) {
+            if (!isRestoring(arena)) arenaList.add(arena);
+        }
+        if (arenaList.isEmpty()) {
+            return null;
+        }
         return arenaList.get(new Random().nextInt(arenaList.size()));
     }
 
+    /**
+     * Load an arena's world if needed and mark it as in use.
+     * The future completes on the main thread.
+     */
+    public CompletableFuture<World> acquireWorld(@NotNull Arena arena) {
+        String worldName = arena.getWorldName();
+        if (worldName == null) {
+            return CompletableFuture.failedFuture(
+                    new IllegalStateException("Arena " + arena.getName() + " has no world"));
+        }
+
+        occupancy.merge(worldName, 1, Integer::sum);
+        idleSince.remove(worldName);
+
+        CompletableFuture<World> future = loadWorld(worldName);
+        future.whenComplete((world, throwable) -> {
+            if (throwable != null) releaseWorld(arena);
+        });
+        return future;
+    }
+
+    /**
+     * Mark an arena's world as no longer used by a game
+     */
+    public void releaseWorld(@NotNull Arena arena) {
+        String worldName = arena.getWorldName();
+        if (worldName == null) return;
+
+        Integer remaining = occupancy.computeIfPresent(worldName, (name, count) -> count > 1 ? count - 1 : null);
+        if (remaining == null) {
+            idleSince.put(worldName, System.currentTimeMillis());
+        }
+    }
+
+    /**
+     * Load a world, checking its folder off the main thread first.
+     * World construction itself can only happen on the main thread.
+     */
+    private CompletableFuture<World> loadWorld(@NotNull String worldName) {
+        World loaded = plugin.getServer().getWorld(worldName);
+        if (loaded != null) {
+            bindWorld(loaded);
+            return CompletableFuture.completedFuture(loaded);
+        }
+
+        CompletableFuture<World> existing = loading.get(worldName);
+        if (existing != null) {
+            return existing;
+        }
+
+        CompletableFuture<World> result = new CompletableFuture<>();
+        loading.put(worldName, result);
+
+        File folder = new File(plugin.getServer().getWorldContainer(), worldName);
+        CompletableFuture.runAsync(() -> {
+            if (!new File(folder, "level.dat").isFile()) {
+                throw new IllegalStateException("World folder not found: " + folder);
+            }
+        }).whenComplete((ignored, throwable) -> plugin.getServer().getScheduler().runTask(plugin, () -> {
+            loading.remove(worldName);
+            if (throwable != null) {
+                plugin.logSevere("Failed to load arena world " + worldName + ": " + throwable.getMessage());
+                result.completeExceptionally(throwable);
+                return;
+            }
+
+            World world = plugin.getServer().getWorld(worldName);
+            if (world == null) {
+                world = new WorldCreator(worldName)
+                        .environment(environments.getOrDefault(worldName, World.Environment.NORMAL))
+                        .createWorld();
+            }
+            if (world == null) {
+                result.completeExceptionally(new IllegalStateException("Could not load " + worldName));
+                return;
+            }
+
+            // Arena chunks are warmed per game, spawn chunks don't need to stay loaded
+            world.setGameRule(GameRule.SPAWN_CHUNK_RADIUS, 0);
+            bindWorld(world);
+            plugin.logInfo("Loaded arena world: " + worldName);
+            result.complete(world);
+        }));
+
+        return result;
+    }
+
+    /**
+     * Unload arena worlds that have had no game for the idle timeout
+     */
+    private void unloadIdleWorlds() {
+        long idleMillis = plugin.getConfigManager().getArenaWorldIdleUnload() * 1000L;
+        if (idleMillis <= 0) return;
+
+        long now = System.currentTimeMillis();
+        World mainWorld = plugin.getServer().getWorlds().getFirst();
+
+        Set<String> worldNames = new HashSet<>();
+        Set<String> lobbyWorlds = new HashSet<>();
+        for (Arena arena : arenas.values()) {
+            if (arena.getWorldName() != null) worldNames.add(arena.getWorldName());
+            if (arena.getLobbyWorldName() != null) lobbyWorlds.add(arena.getLobbyWorldName());
+        }
+
+        for (String worldName : worldNames) {
+            World world = plugin.getServer().getWorld(worldName);
+            if (world == null || world == mainWorld || lobbyWorlds.contains(worldName)) continue;
+            if (occupancy.containsKey(worldName) || loading.containsKey(worldName)) continue;
+
+            if (journals.containsKey(world.getUID()) || rollbacks.containsKey(world.getUID())
+                    || !world.getPlayers().isEmpty()) {
+                idleSince.put(worldName, now);
+                continue;
+            }
+
+            long since = idleSince.computeIfAbsent(worldName, name -> now);
+            if (now - since >= idleMillis) {
+                unloadWorld(world);
+            }
+        }
+    }
+
+    /**
+     * Unload an unused arena world so its folder can be copied.
+     * Unloading saves and flushes every chunk to the region files, which a plain save doesn't.
+     *
+     * @return false if the world is in use and stays loaded
+     */
+    public boolean unloadForCopy(@NotNull World world) {
+        String worldName = world.getName();
+        if (world == plugin.getServer().getWorlds().getFirst()) return false;
+        if (occupancy.containsKey(worldName) || loading.containsKey(worldName)) return false;
+        if (journals.containsKey(world.getUID()) || rollbacks.containsKey(world.getUID())
+                || !world.getPlayers().isEmpty()) return false;
+
+        for (Arena arena : arenas.values()) {
+            if (worldName.equals(arena.getLobbyWorldName())) return false;
+        }
+        return unloadWorld(world);
+    }
+
+    /**
+     * Get the environment of an arena world, loaded or not
+     */
+    public World.Environment getEnvironment(@NotNull String worldName) {
+        World world = plugin.getServer().getWorld(worldName);
+        if (world != null) return world.getEnvironment();
+        return environments.getOrDefault(worldName, World.Environment.NORMAL);
+    }
+
+    /**
+     * Unload an idle arena world
+     */
+    private boolean unloadWorld(@NotNull World world) {
+        environments.put(world.getName(), world.getEnvironment());
+        unbindWorld(world);
+
+        if (!plugin.getServer().unloadWorld(world, true)) {
+            bindWorld(world);
+            plugin.logWarning("Could not unload idle arena world " + world.getName());
+            return false;
+        }
+
+        idleSince.remove(world.getName());
+        plugin.logInfo("Unloaded idle arena world: " + world.getName());
+        return true;
+    }
+
+    /**
+     * Bind arena locations to a world that has loaded
+     */
+    public void bindWorld(@NotNull World world) {
+        for (Arena arena : arenas.values()) {
+            arena.bindWorld(world);
+        }
+    }
+
+    /**
+     * Unbind arena locations from a world that is unloading
+     */
+    public void unbindWorld(@NotNull World world) {
+        for (Arena arena : arenas.values()) {
+            arena.unbindWorld(world);
+        }
+    }
+
+    /**
+     * Get number of arena worlds in use by games
+     */
+    public int getOccupiedWorldCount() {
+        return occupancy.size();
+    }
+
+    /**
+     * Start (or join) block journaling for a world
+     */
+    public BlockJournal openJournal(@NotNull World world) {
+        BlockJournal journal = journals.computeIfAbsent(world.getUID(), uid -> new BlockJournal());
+        journal.retain();
+        return journal;
+    }
+
+    /**
+     * Get the journal recording a world, or null if none
+     */
+    public BlockJournal getJournal(@NotNull World world) {
+        return journals.get(world.getUID());
+    }
+
+    /**
+     * Stop journaling for a world. Once the last game using the journal
+     * closes it, the world is rolled back and onRestored runs when done.
+     */
+    public void closeJournal(@NotNull World world, @NotNull Runnable onRestored) {
+        BlockJournal journal = journals.get(world.getUID());
+        if (journal == null || journal.release() > 0) {
+            onRestored.run();
+            return;
+        }
+
+        journals.remove(world.getUID());
+        ArenaRollbackTask rollback = new ArenaRollbackTask(plugin, world, journal, () -> {
+            rollbacks.remove(world.getUID());
+            onRestored.run();
+        });
+        rollbacks.put(world.getUID(), rollback);
+        rollback.start();
+    }
+
+    /**
+     * Check if an arena world is still being rolled back
+     */
+    public boolean isRestoring(@NotNull Arena arena) {
+        World world = arena.getWorld();
+        return world != null && rollbacks.containsKey(world.getUID());
+    }
+
     /**
      * Check if arena exists
      */
@@ -124,6 +395,16 @@ public class ArenaManager {
      * Shutdown
      */
     public void shutdown() {
+        idleTask.cancel();
+
+        // Finish pending rollbacks so arenas are left clean
+        for (ArenaRollbackTask rollback : new ArrayList<>(rollbacks.values())) {
+            rollback.complete();
+        }
+        rollbacks.clear();
+        journals.clear();
+        occupancy.clear();
+        idleSince.clear();
         arenas.clear();
     }
 }
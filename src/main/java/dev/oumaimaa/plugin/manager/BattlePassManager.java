@@ -3,34 +3,62 @@ package dev.oumaimaa.plugin.manager;
 import dev.oumaimaa.Main;
 import dev.oumaimaa.plugin.config.playerdata.PlayerData;
 import dev.oumaimaa.plugin.constant.RewardType;
+import dev.oumaimaa.plugin.event.KillEvent;
+import dev.oumaimaa.plugin.event.MatchEndEvent;
 import dev.oumaimaa.plugin.skeleton.BattlePass;
 import dev.oumaimaa.plugin.skeleton.BattlePassReward;
 import dev.oumaimaa.plugin.skeleton.BattlePassTier;
 import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.TextComponent;
 import net.kyori.adventure.text.format.NamedTextColor;
+import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
 import org.jetbrains.annotations.NotNull;
 
 import java.time.LocalDate;
 import java.time.ZoneId;
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
- * Manages the seasonal battle pass
+ * Manages the seasonal battle pass.
+ * <p>
+ * XP grants are collected in a per-player ledger and settled once per tick,
+ * so a kill that also completes a challenge produces a single notification
+ * and any number of tiers crossed are resolved and rewarded in one step.
+ * Grants may come from any thread; settling always runs on the main thread.
  */
 public class BattlePassManager {
 
     private final Main plugin;
-    private final Map<UUID, Integer> playerXP;
+    private final Map<UUID, XPGrant> ledger;
+    private final AtomicBoolean flushScheduled;
     private BattlePass currentPass;
 
     public BattlePassManager(Main plugin) {
         this.plugin = plugin;
-        this.playerXP = new HashMap<>();
+        this.ledger = new ConcurrentHashMap<>();
+        this.flushScheduled = new AtomicBoolean();
 
         createCurrentSeasonPass();
+
+        plugin.getEventBus().subscribe(KillEvent.class, event -> addXP(event.player(), 50, "Kill"));
+        plugin.getEventBus().subscribe(MatchEndEvent.class, this::onMatchEnd);
+    }
+
+    /**
+     * Grant match XP
+     */
+    private void onMatchEnd(@NotNull MatchEndEvent event) {
+        addXP(event.player(), 100, "Game Completed");
+        if (event.winner()) {
+            addXP(event.player(), 500, "Victory");
+        }
     }
 
     /**
@@ -137,83 +165,151 @@ public class BattlePassManager {
      * Add XP to player
      */
     public void addXP(Player player, int amount, String reason) {
-        PlayerData data = plugin.getPlayerDataManager().getPlayerData(player);
-        int currentXP = data.getBattlePassXP();
-        int currentTier = data.getBattlePassTier();
+        addXP(player.getUniqueId(), amount, reason);
+    }
 
-        currentXP += amount;
-        data.setBattlePassXP(currentXP);
+    /**
+     * Add XP to player.
+     * The XP is recorded in the ledger and credited, tier resolution included,
+     * with every other grant of the same tick.
+     */
+    public void addXP(UUID uuid, int amount, String reason) {
+        if (amount <= 0) return;
 
-        // Check for tier up
-        BattlePassTier nextTier = currentPass.getTier(currentTier + 1);
-        if (nextTier != null && currentXP >= nextTier.getRequiredXP()) {
-            tierUp(player, currentTier + 1);
+        ledger.compute(uuid, (key, grant) -> {
+            XPGrant updated = grant != null ? grant : new XPGrant();
+            updated.add(amount, reason);
+            return updated;
+        });
+
+        if (plugin.isEnabled() && flushScheduled.compareAndSet(false, true)) {
+            Bukkit.getScheduler().runTask(plugin, this::flush);
         }
+    }
+
+    /**
+     * Settle all pending XP grants
+     */
+    public void flush() {
+        flushScheduled.set(false);
+
+        for (UUID uuid : ledger.keySet()) {
+            XPGrant grant = ledger.remove(uuid);
+            if (grant == null) continue;
+
+            try {
+                plugin.getPlayerDataManager().whenLoaded(uuid, data -> settle(uuid, data, grant));
+            } catch (Exception e) {
+                plugin.logSevere("Failed to settle battle pass XP for " + uuid + ": " + e.getMessage());
+                e.printStackTrace();
+            }
+        }
+    }
+
+    /**
+     * Resolve the tier reached by a player's XP and notify them once
+     */
+    private void settle(UUID uuid, @NotNull PlayerData data, @NotNull XPGrant grant) {
+        Player player = Bukkit.getPlayer(uuid);
+
+        data.setBattlePassXP(data.getBattlePassXP() + grant.amount);
+
+        int oldTier = data.getBattlePassTier();
+        int newTier = currentPass.getTierForXP(data.getBattlePassXP());
+
+        List<String> rewards = new ArrayList<>();
+        if (newTier > oldTier) {
+            data.setBattlePassTier(newTier);
+            grantTiers(data, oldTier + 1, newTier, true, data.hasPremiumBattlePass(), rewards);
+        }
+
+        if (player == null) return;
 
         // Notify player
         player.sendMessage(
-                Component.text("+ " + amount + " XP").color(NamedTextColor.GREEN)
-                        .append(Component.text(" (" + reason + ")").color(NamedTextColor.GRAY))
+                Component.text("+ " + grant.amount + " XP").color(NamedTextColor.GREEN)
+                        .append(Component.text(" (" + grant.describe() + ")").color(NamedTextColor.GRAY))
         );
+
+        if (newTier > oldTier) {
+            announceTierUp(player, oldTier, newTier, rewards);
+        }
     }
 
     /**
-     * Tier up player
+     * Give the rewards of every tier in a range, collecting their display names
      */
-    private void tierUp(Player player, int newTier) {
-        PlayerData data = plugin.getPlayerDataManager().getPlayerData(player);
-        data.setBattlePassTier(newTier);
-
-        BattlePassTier tier = currentPass.getTier(newTier);
-        if (tier == null) return;
+    private void grantTiers(PlayerData data, int fromTier, int toTier, boolean free, boolean premium,
+                            List<String> granted) {
+        for (int i = fromTier; i <= toTier; i++) {
+            BattlePassTier tier = currentPass.getTier(i);
+            if (tier == null) continue;
 
-        for (BattlePassReward reward : tier.getFreeRewards()) {
-            giveReward(player, reward);
-        }
+            if (free) {
+                for (BattlePassReward reward : tier.getFreeRewards()) {
+                    giveReward(data, reward, granted);
+                }
+            }
 
-        if (data.hasPremiumBattlePass()) {
-            for (BattlePassReward reward : tier.getPremiumRewards()) {
-                giveReward(player, reward);
+            if (premium) {
+                for (BattlePassReward reward : tier.getPremiumRewards()) {
+                    giveReward(data, reward, granted);
+                }
             }
         }
+    }
 
-        // Announce tier up
-        player.sendMessage(Component.text("")
+    /**
+     * Announce a tier up along with every reward it granted
+     */
+    private void announceTierUp(Player player, int oldTier, int newTier, List<String> rewards) {
+        String reached = newTier - oldTier > 1
+                ? "You reached Tier " + newTier + " (+" + (newTier - oldTier) + " tiers)"
+                : "You reached Tier " + newTier;
+
+        TextComponent.Builder message = Component.text()
                 .append(Component.text("━━━━━━━━━━━━━━━━━━━━━━━━").color(NamedTextColor.GOLD))
                 .append(Component.newline())
                 .append(Component.text("  TIER UP! ").color(NamedTextColor.YELLOW))
-                .append(Component.text("You reached Tier " + newTier).color(NamedTextColor.GOLD))
-                .append(Component.newline())
-                .append(Component.text("━━━━━━━━━━━━━━━━━━━━━━━━").color(NamedTextColor.GOLD))
-        );
+                .append(Component.text(reached).color(NamedTextColor.GOLD));
+
+        appendRewards(message, rewards);
 
+        message.append(Component.newline())
+                .append(Component.text("━━━━━━━━━━━━━━━━━━━━━━━━").color(NamedTextColor.GOLD));
+
+        player.sendMessage(message.build());
         player.playSound(player.getLocation(), org.bukkit.Sound.ENTITY_PLAYER_LEVELUP, 1.0f, 2.0f);
     }
 
     /**
-     * Give reward to player
+     * Append one line per reward to a message
      */
-    private void giveReward(Player player, @NotNull BattlePassReward reward) {
-        PlayerData data = plugin.getPlayerDataManager().getPlayerData(player);
+    private void appendRewards(TextComponent.Builder message, @NotNull List<String> rewards) {
+        for (String reward : rewards) {
+            message.append(Component.newline())
+                    .append(Component.text("  + ").color(NamedTextColor.GREEN))
+                    .append(Component.text(reward));
+        }
+    }
 
+    /**
+     * Give reward to player
+     */
+    private void giveReward(PlayerData data, @NotNull BattlePassReward reward, List<String> granted) {
         switch (reward.getType()) {
-            case COINS -> {
-                data.addCoins(reward.getAmountOrId());
-                player.sendMessage(Component.text("  + ").color(NamedTextColor.GREEN)
-                        .append(Component.text(reward.getDisplayName())));
-            }
-            case COSMETIC -> {
-                data.addCosmetic(reward.getStringValue());
-                player.sendMessage(Component.text("  + ").color(NamedTextColor.GREEN)
-                        .append(Component.text(reward.getDisplayName())));
-            }
+            case COINS -> data.addCoins(reward.getAmountOrId());
+            case COSMETIC -> data.addCosmetic(reward.getStringValue());
         }
+        granted.add(reward.getDisplayName());
     }
 
     /**
      * Purchase premium battle pass
      */
     public boolean purchasePremium(Player player) {
+        if (!plugin.getPlayerDataManager().checkLoaded(player)) return false;
+
         PlayerData data = plugin.getPlayerDataManager().getPlayerData(player);
 
         if (data.hasPremiumBattlePass()) {
@@ -234,18 +330,13 @@ public class BattlePassManager {
         data.setPremiumBattlePass(true);
 
         // Give all past premium rewards
-        int currentTier = data.getBattlePassTier();
-        for (int i = 1; i <= currentTier; i++) {
-            BattlePassTier tier = currentPass.getTier(i);
-            if (tier != null) {
-                for (BattlePassReward reward : tier.getPremiumRewards()) {
-                    giveReward(player, reward);
-                }
-            }
-        }
+        List<String> rewards = new ArrayList<>();
+        grantTiers(data, 1, data.getBattlePassTier(), false, true, rewards);
 
-        player.sendMessage(Component.text("✓ Premium Battle Pass Activated!")
-                .color(NamedTextColor.GREEN));
+        TextComponent.Builder message = Component.text()
+                .append(Component.text("✓ Premium Battle Pass Activated!").color(NamedTextColor.GREEN));
+        appendRewards(message, rewards);
+        player.sendMessage(message.build());
 
         return true;
     }
@@ -292,4 +383,34 @@ public class BattlePassManager {
     public BattlePass getCurrentPass() {
         return currentPass;
     }
+
+    /**
+     * Shutdown, settling any XP granted this tick
+     */
+    public void shutdown() {
+        flush();
+    }
+
+    /**
+     * XP granted to a player during the current tick
+     */
+    private static class XPGrant {
+        private final Map<String, Integer> reasons = new LinkedHashMap<>();
+        private int amount;
+
+        void add(int xp, String reason) {
+            amount += xp;
+            reasons.merge(reason, 1, Integer::sum);
+        }
+
+        String describe() {
+            StringBuilder builder = new StringBuilder();
+            for (Map.Entry<String, Integer> reason : reasons.entrySet()) {
+                if (!builder.isEmpty()) builder.append(", ");
+                builder.append(reason.getKey());
+                if (reason.getValue() > 1) builder.append(" x").append(reason.getValue());
+            }
+            return builder.toString();
+        }
+    }
 }
\ No newline at end of file
@@ -2,6 +2,8 @@ package dev.oumaimaa.plugin.manager;
 
 import dev.oumaimaa.Main;
 import dev.oumaimaa.plugin.skeleton.Game;
+import dev.oumaimaa.plugin.skeleton.Zone;
+import dev.oumaimaa.plugin.skeleton.ZoneTimeline;
 import net.kyori.adventure.bossbar.BossBar;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
@@ -29,21 +31,41 @@ public class BossBarManager {
     }
 
     /**
-     * Show zone countdown boss bar
+     * Show or update the zone countdown boss bar from the zone timeline
      */
-    public void showZoneCountdown(@NotNull Player player, int seconds) {
-        BossBar bossBar = BossBar.bossBar(
-                Component.text("Zone shrinking in " + seconds + " seconds")
-                        .color(NamedTextColor.RED),
-                1.0f,
+    public void showZoneCountdown(@NotNull Player player, @NotNull Zone zone) {
+        long elapsed = zone.getElapsedTicks();
+        long remaining = zone.getTicksUntilNextShrink();
+        if (elapsed < 0 || remaining < 0) {
+            removeBossBar(player, "zone");
+            return;
+        }
+
+        ZoneTimeline timeline = zone.getTimeline();
+        long holdLength = timeline.nextShrinkAt(elapsed) - timeline.holdStartAt(elapsed);
+        float progress = holdLength > 0 ? (float) remaining / holdLength : 0f;
+        int seconds = (int) Math.ceil(remaining / 20.0);
+
+        Component name = Component.text("Zone shrinking in " + seconds + " seconds")
+                .color(NamedTextColor.RED);
+
+        Map<String, BossBar> bars = playerBossBars.computeIfAbsent(player.getUniqueId(), k -> new HashMap<>());
+        BossBar bossBar = bars.get("zone");
+        if (bossBar != null) {
+            bossBar.name(name);
+            bossBar.progress(Math.clamp(progress, 0f, 1f));
+            return;
+        }
+
+        bossBar = BossBar.bossBar(
+                name,
+                Math.clamp(progress, 0f, 1f),
                 BossBar.Color.RED,
                 BossBar.Overlay.PROGRESS
         );
 
         player.showBossBar(bossBar);
-
-        playerBossBars.computeIfAbsent(player.getUniqueId(), k -> new HashMap<>())
-                .put("zone", bossBar);
+        bars.put("zone", bossBar);
     }
 
     /**
@@ -51,6 +73,7 @@ public class BossBarManager {
      */
     public void showGameProgress(Player player, @NotNull Game game) {
         String text = switch (game.getPhase()) {
+            case DEPLOYING -> "Deploying players...";
             case GRACE_PERIOD -> "Grace Period - PvP Disabled";
             case ACTIVE_COMBAT -> game.getAlivePlayers().size() + " players remaining";
             case FINAL_ZONE -> "FINAL ZONE!";
@@ -110,6 +133,7 @@ public class BossBarManager {
                 BossBar bar = bars.get("game");
 
                 String text = switch (game.getPhase()) {
+                    case DEPLOYING -> "Deploying players...";
                     case GRACE_PERIOD -> "Grace Period - PvP Disabled";
                     case ACTIVE_COMBAT -> game.getAlivePlayers().size() + " players remaining";
                     case FINAL_ZONE -> "FINAL ZONE!";
@@ -125,6 +149,11 @@ public class BossBarManager {
                 showGameProgress(player, game);
             }
 
+            // Update zone countdown
+            if (game.getZone() != null) {
+                showZoneCountdown(player, game.getZone());
+            }
+
             // Check zone damage
             if (game.getZone() != null && game.getZone().isOutsideZone(player.getLocation())) {
                 Map<String, BossBar> bars2 = playerBossBars.get(player.getUniqueId());
@@ -164,12 +193,15 @@ public class BossBarManager {
     }
 
     /**
-     * Start update task
+     * Start the lobby update task.
+     * Players in a game are updated by the game ticker.
      */
     private void startUpdateTask() {
         Bukkit.getScheduler().runTaskTimer(plugin, () -> {
             for (Player player : Bukkit.getOnlinePlayers()) {
-                updateBossBars(player);
+                if (!plugin.getGameManager().isInGame(player)) {
+                    updateBossBars(player);
+                }
             }
         }, 0L, 20L); // Update every second
     }
@@ -5,6 +5,9 @@ import dev.oumaimaa.plugin.config.playerdata.PlayerData;
 import dev.oumaimaa.plugin.constant.ChallengeDifficulty;
 import dev.oumaimaa.plugin.constant.ChallengeFrequency;
 import dev.oumaimaa.plugin.constant.ChallengeType;
+import dev.oumaimaa.plugin.event.DamageEvent;
+import dev.oumaimaa.plugin.event.KillEvent;
+import dev.oumaimaa.plugin.event.MatchEndEvent;
 import dev.oumaimaa.plugin.record.ChallengeTemplate;
 import dev.oumaimaa.plugin.skeleton.Challenge;
 import net.kyori.adventure.text.Component;
@@ -13,36 +16,76 @@ import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
 import org.jetbrains.annotations.NotNull;
 
+import java.time.Instant;
 import java.time.LocalDate;
-import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
- * Manages daily and weekly challenges
+ * Manages daily and weekly challenges.
+ * <p>
+ * A player's challenges are derived from a hash of their UUID and the current
+ * epoch day and week, so the same set is picked on every server without being
+ * stored or reset. Only the progress counters are persisted.
+ * Progress is driven by game events on the progression worker and the
+ * counters are updated on the main thread.
  */
 public class ChallengeManager {
 
+    private static final int DAILY_CHALLENGES = 3;
+    private static final int WEEKLY_CHALLENGES = 1;
+    private static final long DAILY_SALT = 0x6A09E667F3BCC908L;
+    private static final long WEEKLY_SALT = 0xBB67AE8584CAA73BL;
+
     private final Main plugin;
-    private final Map<UUID, List<Challenge>> playerChallenges;
+    private final Map<UUID, Selection> selections;
     private final List<ChallengeTemplate> dailyTemplates;
     private final List<ChallengeTemplate> weeklyTemplates;
 
+    private volatile long currentDay;
+    private volatile long currentWeek;
+    private volatile long nextDayMillis;
+
     public ChallengeManager(Main plugin) {
         this.plugin = plugin;
-        this.playerChallenges = new ConcurrentHashMap<>();
-        this.dailyTemplates = new ArrayList<>();
-        this.weeklyTemplates = new ArrayList<>();
+        this.selections = new ConcurrentHashMap<>();
+
+        List<ChallengeTemplate> daily = new ArrayList<>();
+        List<ChallengeTemplate> weekly = new ArrayList<>();
+        registerChallenges(daily, weekly);
+
+        this.dailyTemplates = List.copyOf(daily);
+        this.weeklyTemplates = List.copyOf(weekly);
+
+        rollPeriod(System.currentTimeMillis());
 
-        registerChallenges();
-        startResetTask();
+        plugin.getEventBus().subscribe(KillEvent.class,
+                event -> updateProgress(event.player(), ChallengeType.KILLS, 1));
+        plugin.getEventBus().subscribe(DamageEvent.class, this::onDamage);
+        plugin.getEventBus().subscribe(MatchEndEvent.class, this::onMatchEnd);
+    }
+
+    private void onDamage(@NotNull DamageEvent event) {
+        if (event.dealt() > 0) {
+            updateProgress(event.player(), ChallengeType.DAMAGE_DEALT, event.dealt());
+        }
+        if (event.taken() > 0) {
+            updateProgress(event.player(), ChallengeType.DAMAGE_TAKEN, event.taken());
+        }
+    }
+
+    private void onMatchEnd(@NotNull MatchEndEvent event) {
+        updateProgress(event.player(), ChallengeType.GAMES_PLAYED, 1);
+        if (event.winner()) {
+            updateProgress(event.player(), ChallengeType.WINS, 1);
+        }
     }
 
     /**
      * Register all challenge templates
      */
-    private void registerChallenges() {
+    private void registerChallenges(List<ChallengeTemplate> dailyTemplates, List<ChallengeTemplate> weeklyTemplates) {
         // Daily challenges
         dailyTemplates.add(new ChallengeTemplate(
                 "daily_kills_5",
@@ -135,80 +178,178 @@ public class ChallengeManager {
     }
 
     /**
-     * Generate daily challenges for player
+     * Advance the cached epoch day and week if midnight has passed
+     */
+    private void checkRollover() {
+        long now = System.currentTimeMillis();
+        if (now >= nextDayMillis) {
+            rollPeriod(now);
+        }
+    }
+
+    /**
+     * Recompute the epoch day and week for the given time
+     */
+    private synchronized void rollPeriod(long now) {
+        if (now < nextDayMillis) return;
+
+        ZoneId zone = ZoneId.systemDefault();
+        LocalDate today = Instant.ofEpochMilli(now).atZone(zone).toLocalDate();
+
+        this.currentDay = today.toEpochDay();
+        // Epoch day 0 was a Thursday, shift so weeks start on Monday
+        this.currentWeek = Math.floorDiv(currentDay + 3, 7);
+        this.nextDayMillis = today.plusDays(1).atStartOfDay(zone).toInstant().toEpochMilli();
+    }
+
+    /**
+     * Get the player's challenge selection for the current day and week
      */
-    public List<Challenge> generateDailyChallenges(Player player) {
-        List<Challenge> challenges = new ArrayList<>();
+    private @NotNull Selection getSelection(@NotNull UUID uuid) {
+        checkRollover();
+
+        long day = currentDay;
+        long week = currentWeek;
 
-        // Select 3 random daily challenges
-        Collections.shuffle(dailyTemplates);
-        for (int i = 0; i < Math.min(3, dailyTemplates.size()); i++) {
-            challenges.add(new Challenge(dailyTemplates.get(i), ChallengeFrequency.DAILY));
+        Selection selection = selections.get(uuid);
+        if (selection == null || selection.day() != day || selection.week() != week) {
+            selection = new Selection(day, week,
+                    pick(dailyTemplates, DAILY_CHALLENGES, seed(uuid, day, DAILY_SALT)),
+                    pick(weeklyTemplates, WEEKLY_CHALLENGES, seed(uuid, week, WEEKLY_SALT)));
+            selections.put(uuid, selection);
+
+            plugin.getPlayerDataManager().whenLoaded(uuid, data -> data.pruneChallengeProgress(day, week));
         }
+        return selection;
+    }
 
-        // Select 1 weekly challenge
-        if (!weeklyTemplates.isEmpty()) {
-            ChallengeTemplate weekly = weeklyTemplates.get(new Random().nextInt(weeklyTemplates.size()));
-            challenges.add(new Challenge(weekly, ChallengeFrequency.WEEKLY));
+    /**
+     * Mix a player's UUID with a period into a selection seed
+     */
+    private static long seed(@NotNull UUID uuid, long period, long salt) {
+        long hash = uuid.getMostSignificantBits() ^ Long.rotateLeft(uuid.getLeastSignificantBits(), 32);
+        return hash ^ (period * 0x9E3779B97F4A7C15L) ^ salt;
+    }
+
+    /**
+     * Pick templates with a partial Fisher-Yates shuffle over an index array
+     */
+    private static ChallengeTemplate @NotNull [] pick(@NotNull List<ChallengeTemplate> templates, int count, long seed) {
+        int size = templates.size();
+        int picks = Math.min(count, size);
+
+        int[] order = new int[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
         }
 
-        playerChallenges.put(player.getUniqueId(), challenges);
-        return challenges;
+        SplittableRandom random = new SplittableRandom(seed);
+        ChallengeTemplate[] picked = new ChallengeTemplate[picks];
+        for (int i = 0; i < picks; i++) {
+            int j = i + random.nextInt(size - i);
+            int swap = order[i];
+            order[i] = order[j];
+            order[j] = swap;
+            picked[i] = templates.get(order[i]);
+        }
+        return picked;
     }
 
     /**
      * Get player's active challenges
      */
     public List<Challenge> getPlayerChallenges(@NotNull Player player) {
-        List<Challenge> challenges = playerChallenges.get(player.getUniqueId());
+        Selection selection = getSelection(player.getUniqueId());
+        PlayerData data = plugin.getPlayerDataManager().getPlayerData(player);
 
-        if (challenges == null || shouldResetDaily(player)) {
-            challenges = generateDailyChallenges(player);
+        List<Challenge> challenges = new ArrayList<>(selection.daily().length + selection.weekly().length);
+        for (ChallengeTemplate template : selection.daily()) {
+            challenges.add(new Challenge(template, ChallengeFrequency.DAILY,
+                    data.getChallengeProgress(template.id(), selection.day())));
+        }
+        for (ChallengeTemplate template : selection.weekly()) {
+            challenges.add(new Challenge(template, ChallengeFrequency.WEEKLY,
+                    data.getChallengeProgress(template.id(), selection.week())));
         }
-
         return challenges;
     }
 
     /**
-     * Update challenge progress
+     * Get number of daily challenges the player completed today
      */
-    public void updateProgress(Player player, ChallengeType type, int amount) {
-        List<Challenge> challenges = getPlayerChallenges(player);
+    public int getCompletedDailyCount(@NotNull Player player) {
+        Selection selection = getSelection(player.getUniqueId());
+        PlayerData data = plugin.getPlayerDataManager().getPlayerData(player);
+
+        int completed = 0;
+        for (ChallengeTemplate template : selection.daily()) {
+            if (data.getChallengeProgress(template.id(), selection.day()) >= template.requiredProgress()) {
+                completed++;
+            }
+        }
+        return completed;
+    }
 
-        for (Challenge challenge : challenges) {
-            if (challenge.getType() == type && !challenge.isCompleted()) {
-                challenge.addProgress(amount);
+    /**
+     * Update challenge progress
+     */
+    public void updateProgress(UUID player, ChallengeType type, int amount) {
+        Selection selection = getSelection(player);
 
-                if (challenge.isCompleted() && !challenge.isRewardClaimed()) {
-                    completeChallenge(player, challenge);
-                }
+        for (ChallengeTemplate template : selection.daily()) {
+            if (template.type() == type) {
+                advance(player, template, selection.day(), amount);
+            }
+        }
+        for (ChallengeTemplate template : selection.weekly()) {
+            if (template.type() == type) {
+                advance(player, template, selection.week(), amount);
             }
         }
     }
 
     /**
-     * Complete challenge and give rewards
+     * Advance one challenge counter, completing it when it crosses its target
      */
-    private void completeChallenge(Player player, @NotNull Challenge challenge) {
-        PlayerData data = plugin.getPlayerDataManager().getPlayerData(player);
+    private void advance(UUID player, @NotNull ChallengeTemplate template, long period, int amount) {
+        plugin.getEventBus().dispatch(() -> plugin.getPlayerDataManager().whenLoaded(player, data -> {
+            int required = template.requiredProgress();
 
-        data.addCoins(challenge.getCoinReward());
+            if (data.getChallengeProgress(template.id(), period) >= required) return;
 
-        plugin.getBattlePassManager().addXP(player, challenge.getXpReward(), "Challenge Completed");
+            if (data.addChallengeProgress(template.id(), period, amount) >= required) {
+                completeChallenge(player, data, template);
+            }
+        }));
+    }
 
-        challenge.setRewardClaimed(true);
+    /**
+     * Complete challenge and give rewards, on the main thread
+     */
+    private void completeChallenge(UUID uuid, @NotNull PlayerData data, @NotNull ChallengeTemplate challenge) {
+        plugin.getBattlePassManager().addXP(uuid, challenge.xpReward(), "Challenge Completed");
+        data.addCoins(challenge.coinReward());
+
+        Player player = Bukkit.getPlayer(uuid);
+        if (player != null) {
+            notifyCompleted(player, challenge);
+        }
+    }
 
-        // Notify player
+    /**
+     * Notify a player that a challenge was completed
+     */
+    private void notifyCompleted(@NotNull Player player, @NotNull ChallengeTemplate challenge) {
         player.sendMessage(Component.text("")
                 .append(Component.text("━━━━━━━━━━━━━━━━━━━━━").color(NamedTextColor.GOLD))
                 .append(Component.newline())
                 .append(Component.text("  Challenge Completed!").color(NamedTextColor.GREEN))
                 .append(Component.newline())
-                .append(Component.text("  " + challenge.getName()).color(NamedTextColor.YELLOW))
+                .append(Component.text("  " + challenge.name()).color(NamedTextColor.YELLOW))
                 .append(Component.newline())
-                .append(Component.text("  + " + challenge.getCoinReward() + " coins").color(NamedTextColor.GOLD))
+                .append(Component.text("  + " + challenge.coinReward() + " coins").color(NamedTextColor.GOLD))
                 .append(Component.newline())
-                .append(Component.text("  + " + challenge.getXpReward() + " XP").color(NamedTextColor.AQUA))
+                .append(Component.text("  + " + challenge.xpReward() + " XP").color(NamedTextColor.AQUA))
                 .append(Component.newline())
                 .append(Component.text("━━━━━━━━━━━━━━━━━━━━━").color(NamedTextColor.GOLD))
         );
@@ -216,57 +357,23 @@ public class ChallengeManager {
         player.playSound(player.getLocation(), org.bukkit.Sound.ENTITY_PLAYER_LEVELUP, 1.0f, 1.5f);
     }
 
-    /**
-     * Check if daily challenges should reset
-     */
-    private boolean shouldResetDaily(Player player) {
-        PlayerData data = plugin.getPlayerDataManager().getPlayerData(player);
-        long lastReset = data.getLastDailyChallengeReset();
-
-        LocalDate lastResetDate = LocalDateTime.ofInstant(
-                java.time.Instant.ofEpochMilli(lastReset),
-                ZoneId.systemDefault()
-        ).toLocalDate();
-
-        LocalDate today = LocalDate.now();
-
-        return !lastResetDate.equals(today);
-    }
-
-    /**
-     * Start automatic reset task
-     */
-    private void startResetTask() {
-        // Check every hour for resets
-        Bukkit.getScheduler().runTaskTimerAsynchronously(plugin, () -> {
-            LocalDate today = LocalDate.now();
-
-            for (Player player : Bukkit.getOnlinePlayers()) {
-                if (shouldResetDaily(player)) {
-                    Bukkit.getScheduler().runTask(plugin, () -> {
-                        PlayerData data = plugin.getPlayerDataManager().getPlayerData(player);
-                        data.resetDailyChallenges();
-                        playerChallenges.remove(player.getUniqueId());
-
-                        player.sendMessage(Component.text("✓ Daily challenges have been reset!")
-                                .color(NamedTextColor.GREEN));
-                    });
-                }
-            }
-        }, 0L, 72000L); // Every hour
-    }
-
     /**
      * Load player challenges
      */
     public void loadPlayerChallenges(Player player) {
-        getPlayerChallenges(player);
+        getSelection(player.getUniqueId());
     }
 
     /**
      * Unload player challenges
      */
     public void unloadPlayerChallenges(UUID uuid) {
-        playerChallenges.remove(uuid);
+        selections.remove(uuid);
+    }
+
+    /**
+     * Templates picked for a player in a given day and week
+     */
+    private record Selection(long day, long week, ChallengeTemplate[] daily, ChallengeTemplate[] weekly) {
     }
 }
\ No newline at end of file
@@ -233,6 +233,7 @@ public class CosmeticManager {
             player.sendMessage(Component.text("Cosmetic not found!").color(NamedTextColor.RED));
             return false;
         }
+        if (!plugin.getPlayerDataManager().checkLoaded(player)) return false;
 
         PlayerData data = plugin.getPlayerDataManager().getPlayerData(player);
 
@@ -266,6 +267,7 @@ public class CosmeticManager {
     public boolean equipCosmetic(Player player, String cosmeticId) {
         Cosmetic cosmetic = cosmetics.get(cosmeticId);
         if (cosmetic == null) return false;
+        if (!plugin.getPlayerDataManager().checkLoaded(player)) return false;
 
         PlayerData data = plugin.getPlayerDataManager().getPlayerData(player);
 
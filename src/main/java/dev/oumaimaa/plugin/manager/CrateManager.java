@@ -4,18 +4,21 @@ import dev.oumaimaa.Main;
 import dev.oumaimaa.plugin.config.playerdata.PlayerData;
 import dev.oumaimaa.plugin.constant.CrateType;
 import dev.oumaimaa.plugin.constant.RewardItemType;
+import dev.oumaimaa.plugin.event.MatchEndEvent;
 import dev.oumaimaa.plugin.record.Cosmetic;
 import dev.oumaimaa.plugin.skeleton.CrateDefinition;
 import dev.oumaimaa.plugin.skeleton.CrateReward;
 import dev.oumaimaa.plugin.task.CrateOpeningAnimation;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
+import org.bukkit.Bukkit;
 import org.bukkit.Material;
 import org.bukkit.entity.Player;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.EnumMap;
 import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * Manages reward crates
@@ -30,6 +33,22 @@ public class CrateManager {
         this.crates = new EnumMap<>(CrateType.class);
 
         registerCrates();
+
+        plugin.getEventBus().subscribe(MatchEndEvent.class, this::onMatchEnd);
+    }
+
+    /**
+     * Roll the victory crate drop
+     */
+    private void onMatchEnd(@NotNull MatchEndEvent event) {
+        if (!event.winner() || ThreadLocalRandom.current().nextDouble() >= 0.3) return; // 30% chance
+
+        plugin.getEventBus().dispatch(() -> {
+            Player player = Bukkit.getPlayer(event.player());
+            if (player != null) {
+                giveCrate(player, CrateType.COMMON, 1);
+            }
+        });
     }
 
     /**
@@ -103,8 +122,7 @@ public class CrateManager {
      * Give crate to player
      */
     public void giveCrate(Player player, CrateType type, int amount) {
-        PlayerData data = plugin.getPlayerDataManager().getPlayerData(player);
-        data.addCrate(type, amount);
+        plugin.getPlayerDataManager().whenLoaded(player.getUniqueId(), data -> data.addCrate(type, amount));
 
         player.sendMessage(Component.text("+ " + amount + " ").color(NamedTextColor.GREEN)
                 .append(Component.text(crates.get(type).getName()).color(NamedTextColor.YELLOW))
@@ -117,6 +135,7 @@ public class CrateManager {
     public boolean purchaseCrate(Player player, CrateType type) {
         CrateDefinition crate = crates.get(type);
         if (crate == null) return false;
+        if (!plugin.getPlayerDataManager().checkLoaded(player)) return false;
 
         PlayerData data = plugin.getPlayerDataManager().getPlayerData(player);
 
@@ -140,6 +159,8 @@ public class CrateManager {
      * Open a crate
      */
     public void openCrate(Player player, CrateType type) {
+        if (!plugin.getPlayerDataManager().checkLoaded(player)) return;
+
         PlayerData data = plugin.getPlayerDataManager().getPlayerData(player);
 
         if (data.getCrateCount(type) <= 0) {
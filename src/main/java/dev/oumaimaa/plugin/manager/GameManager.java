@@ -35,6 +35,7 @@ public class GameManager {
     public Game createGame(Arena arena, GameMode mode) {
         Game game = new Game(plugin, arena, mode);
         activeGames.put(game.getId(), game);
+        plugin.getGameTicker().register(game);
         plugin.logInfo("Created new " + mode.name() + " game in arena: " + arena.getName());
         return game;
     }
@@ -54,15 +55,17 @@ public class GameManager {
      */
     public void endGame(@NotNull Game game) {
         game.end();
+        plugin.getGameTicker().unregister(game);
 
         // Remove player mappings
         for (GamePlayer gp : game.getAllPlayers()) {
             playerGameMap.remove(gp.getUuid());
         }
 
-        // Remove from active games after a delay
+        // Remove from active games and discard its world instance after a delay
         plugin.getServer().getScheduler().runTaskLater(plugin, () -> {
             activeGames.remove(game.getId());
+            plugin.getWorldInstanceManager().release(game.getArena());
         }, 200L); // 10 seconds delay
     }
 
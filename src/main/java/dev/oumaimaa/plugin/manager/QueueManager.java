@@ -8,6 +8,7 @@ import dev.oumaimaa.plugin.skeleton.GamePlayer;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
 import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
 
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
@@ -16,10 +17,12 @@ public class QueueManager {
 
     private final Main plugin;
     private final Map<GameMode, Queue<GamePlayer>> queues;
+    private final Set<UUID> reserved;
 
     public QueueManager(Main plugin) {
         this.plugin = plugin;
         this.queues = new ConcurrentHashMap<>();
+        this.reserved = ConcurrentHashMap.newKeySet();
 
         // Initialize queues for each game mode
         for (GameMode mode : GameMode.values()) {
@@ -34,6 +37,12 @@ public class QueueManager {
             return;
         }
 
+        if (reserved.contains(player.getUniqueId())) {
+            player.sendMessage(Component.text("Your game is being prepared!")
+                    .color(NamedTextColor.RED));
+            return;
+        }
+
         GamePlayer gamePlayer = plugin.getGameManager().getGamePlayer(player);
         Queue<GamePlayer> queue = queues.get(mode);
 
@@ -56,7 +65,7 @@ public class QueueManager {
         GamePlayer gamePlayer = plugin.getGameManager().getGamePlayer(player);
         Queue<GamePlayer> queue = queues.get(mode);
 
-        if (queue.remove(gamePlayer)) {
+        if (queue.remove(gamePlayer) || reserved.remove(player.getUniqueId())) {
             player.sendMessage(Component.text("You left the queue.")
                     .color(NamedTextColor.YELLOW));
         }
@@ -70,29 +79,73 @@ public class QueueManager {
                 : plugin.getConfigManager().getResurgenceMinPlayers();
 
         if (queue.size() >= minPlayers) {
-            Arena arena = plugin.getArenaManager().getRandomArena();
-            if (arena == null || !arena.isValid()) {
+            Arena template = plugin.getArenaManager().getRandomArena();
+            if (template == null || !template.isValid()) {
                 plugin.logWarning("No valid arenas available for " + mode.name());
                 return;
             }
 
-            Game game = plugin.getGameManager().createGame(arena, mode);
-
             int maxPlayers = mode == GameMode.BATTLE_ROYALE
                     ? plugin.getConfigManager().getBattleRoyaleMaxPlayers()
                     : plugin.getConfigManager().getResurgenceMaxPlayers();
 
+            // Reserve players now so the queue can't start a second game with them
             List<GamePlayer> players = new ArrayList<>();
             for (int i = 0; i < maxPlayers && !queue.isEmpty(); i++) {
                 players.add(queue.poll());
             }
 
+            // Load the whole cohort's profiles in one go while the arena is prepared
+            List<UUID> uuids = new ArrayList<>(players.size());
             for (GamePlayer gp : players) {
-                game.addPlayer(gp);
+                uuids.add(gp.getUuid());
             }
+            reserved.addAll(uuids);
+            plugin.getPlayerDataManager().preload(uuids);
+
+            plugin.getWorldInstanceManager().acquire(template).whenComplete((arena, throwable) -> {
+                // Players who left the queue while the arena was prepared are no longer reserved
+                List<GamePlayer> joining = new ArrayList<>(players.size());
+                for (GamePlayer gp : players) {
+                    if (reserved.remove(gp.getUuid()) && gp.getPlayer().isOnline()
+                            && !plugin.getGameManager().isInGame(gp.getPlayer())) {
+                        joining.add(gp);
+                    }
+                }
+
+                if (throwable != null) {
+                    plugin.logSevere("Failed to prepare arena " + template.getName() + ": " + throwable.getMessage());
+                    requeue(mode, joining);
+                    return;
+                }
+                if (joining.isEmpty()) {
+                    plugin.getWorldInstanceManager().release(arena);
+                    return;
+                }
+
+                Game game = plugin.getGameManager().createGame(arena, mode);
+
+                for (GamePlayer gp : joining) {
+                    game.addPlayer(gp);
+                }
+
+                plugin.getGameManager().startGame(game);
+            });
+        }
+    }
+
+    /**
+     * Put reserved players back at the front of the queue
+     */
+    private void requeue(GameMode mode, @NotNull List<GamePlayer> players) {
+        Queue<GamePlayer> queue = queues.get(mode);
+        List<GamePlayer> rest = new ArrayList<>(queue);
+        queue.clear();
 
-            plugin.getGameManager().startGame(game);
+        for (GamePlayer gp : players) {
+            if (gp.getPlayer().isOnline()) queue.add(gp);
         }
+        queue.addAll(rest);
     }
 
     public int getQueueSize(GameMode mode) {
@@ -101,5 +154,6 @@ public class QueueManager {
 
     public void shutdown() {
         queues.values().forEach(Queue::clear);
+        reserved.clear();
     }
 }
\ No newline at end of file
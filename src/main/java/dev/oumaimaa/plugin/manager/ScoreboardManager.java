@@ -1,9 +1,11 @@
 package dev.oumaimaa.plugin.manager;
 
 import dev.oumaimaa.Main;
+import dev.oumaimaa.plugin.config.MessageKey;
 import dev.oumaimaa.plugin.config.playerdata.PlayerData;
 import dev.oumaimaa.plugin.config.playerdata.PlayerStatistics;
 import dev.oumaimaa.plugin.skeleton.Game;
+import dev.oumaimaa.plugin.skeleton.KillRanking;
 import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
 import org.bukkit.scoreboard.*;
@@ -34,7 +36,7 @@ public class ScoreboardManager {
     public void createScoreboard(@NotNull Player player) {
         Scoreboard scoreboard = Bukkit.getScoreboardManager().getNewScoreboard();
         Objective objective = scoreboard.registerNewObjective("kawaii", Criteria.DUMMY,
-                plugin.getMiniMessage().deserialize("<gradient:#ff69b4:#ff1493>KawaiiRoyale</gradient>"));
+                plugin.getMessageManager().get(MessageKey.SCOREBOARD_TITLE));
         objective.setDisplaySlot(DisplaySlot.SIDEBAR);
 
         player.setScoreboard(scoreboard);
@@ -82,8 +84,9 @@ public class ScoreboardManager {
         setScore(objective, "   ", line--);
 
         // Player stats
-        int kills = game.getKills(player.getUniqueId());
-        setScore(objective, "§7Your Kills: §f" + kills, line--);
+        KillRanking ranking = game.getRanking();
+        setScore(objective, "§7Your Kills: §f" + ranking.getKills(player.getUniqueId()), line--);
+        setScore(objective, "§7Rank: §f#" + ranking.getRank(player.getUniqueId()) + "/" + ranking.size(), line--);
 
         if (game.getZone() != null) {
             setScore(objective, "    ", line--);
@@ -137,16 +140,16 @@ public class ScoreboardManager {
     }
 
     /**
-     * Start update task
+     * Start the lobby update task.
+     * Players in a game are updated by the game ticker.
      */
     private void startUpdateTask() {
-        int interval = plugin.getConfigManager().getMainConfig()
-                .getInt("customization.scoreboard.update-interval", 10);
+        int interval = plugin.getConfigManager().getScoreboardUpdateInterval();
 
         Bukkit.getScheduler().runTaskTimer(plugin, () -> {
             for (UUID uuid : scoreboards.keySet()) {
                 Player player = Bukkit.getPlayer(uuid);
-                if (player != null && player.isOnline()) {
+                if (player != null && player.isOnline() && !plugin.getGameManager().isInGame(player)) {
                     updateScoreboard(player);
                 }
             }
@@ -0,0 +1,318 @@
+package dev.oumaimaa.plugin.manager;
+
+import dev.oumaimaa.Main;
+import dev.oumaimaa.plugin.skeleton.Arena;
+import dev.oumaimaa.plugin.skeleton.ArenaInstance;
+import org.bukkit.GameRule;
+import org.bukkit.World;
+import org.bukkit.WorldCreator;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+/**
+ * Gives every game a private copy of its arena world.
+ * <p>
+ * Template world folders are copied off the main thread, from an unloaded
+ * template so every chunk is on disk, and the copy is loaded on the main thread. A small pool of ready instances is kept per
+ * arena so most games start without waiting for a copy.
+ */
+public class WorldInstanceManager {
+
+    private static final Set<String> SKIPPED_FILES = Set.of("session.lock", "uid.dat");
+
+    private final Main plugin;
+    private final Map<String, Deque<ArenaInstance>> pool;
+    private final Map<String, Integer> pending;
+    private final Map<Arena, ArenaInstance> inUse;
+    private final AtomicInteger counter;
+    private final boolean enabled;
+    private final int poolSize;
+    private final String prefix;
+
+    public WorldInstanceManager(Main plugin) {
+        this.plugin = plugin;
+        this.pool = new ConcurrentHashMap<>();
+        this.pending = new ConcurrentHashMap<>();
+        this.inUse = new ConcurrentHashMap<>();
+        this.counter = new AtomicInteger();
+        this.enabled = plugin.getConfigManager().isInstancingEnabled();
+        this.poolSize = plugin.getConfigManager().getInstancePoolSize();
+        this.prefix = plugin.getConfigManager().getInstanceWorldPrefix();
+
+        if (enabled) {
+            deleteStaleInstances();
+            plugin.getServer().getScheduler().runTask(plugin, this::refillAll);
+        }
+    }
+
+    /**
+     * Get an arena for a new game, backed by a private world when instancing is enabled.
+     * The future completes on the main thread.
+     */
+    public CompletableFuture<Arena> acquire(@NotNull Arena template) {
+        if (!enabled) {
+            // The game plays in the template world itself, load it on demand
+            return plugin.getArenaManager().acquireWorld(template).thenApply(world -> template);
+        }
+
+        Deque<ArenaInstance> ready = pool.get(template.getName());
+        ArenaInstance instance = null;
+        if (ready != null) {
+            synchronized (ready) {
+                instance = ready.poll();
+            }
+        }
+
+        CompletableFuture<ArenaInstance> future = instance != null
+                ? CompletableFuture.completedFuture(instance)
+                : createInstance(template);
+
+        return future.thenApply(created -> {
+            inUse.put(created.getArena(), created);
+            refill(template);
+            return created.getArena();
+        });
+    }
+
+    /**
+     * Discard the instance backing an arena, or release the template world if it isn't one
+     */
+    public void release(@NotNull Arena arena) {
+        ArenaInstance instance = inUse.remove(arena);
+        if (instance == null) {
+            plugin.getArenaManager().releaseWorld(arena);
+            return;
+        }
+
+        destroy(instance, true);
+        refill(instance.getTemplate());
+    }
+
+    /**
+     * Check if an arena is a private instance
+     */
+    public boolean isInstance(@NotNull Arena arena) {
+        return inUse.containsKey(arena);
+    }
+
+    /**
+     * Copy the template world, unloading it first if it is loaded and unused.
+     * Called on the main thread.
+     */
+    private CompletableFuture<ArenaInstance> createInstance(@NotNull Arena template) {
+        String templateName = template.getWorldName();
+        if (templateName == null) {
+            return CompletableFuture.failedFuture(
+                    new IllegalStateException("Arena " + template.getName() + " has no world"));
+        }
+
+        WorldCreator settings = new WorldCreator(templateName)
+                .environment(plugin.getArenaManager().getEnvironment(templateName));
+
+        World loaded = plugin.getServer().getWorld(templateName);
+        if (loaded != null) {
+            settings.copy(loaded);
+            if (!plugin.getArenaManager().unloadForCopy(loaded)) {
+                // Still in use, recent chunk writes may not be on disk yet
+                loaded.save();
+                plugin.logWarning("Copying arena world " + templateName + " while it is loaded");
+            }
+        }
+        return copyInstance(template, settings);
+    }
+
+    /**
+     * Copy the template folder off the main thread, then load it on the main thread
+     */
+    private CompletableFuture<ArenaInstance> copyInstance(@NotNull Arena template, @NotNull WorldCreator settings) {
+        String templateName = settings.name();
+        String worldName = prefix + templateName + "_" + counter.incrementAndGet();
+        Path source = new File(plugin.getServer().getWorldContainer(), templateName).toPath();
+        Path target = new File(plugin.getServer().getWorldContainer(), worldName).toPath();
+
+        CompletableFuture<ArenaInstance> result = new CompletableFuture<>();
+
+        CompletableFuture.runAsync(() -> {
+            if (!Files.isRegularFile(source.resolve("level.dat"))) {
+                throw new IllegalStateException("World folder not found: " + source);
+            }
+            try {
+                copyFolder(source, target);
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        }).whenComplete((ignored, throwable) -> plugin.getServer().getScheduler().runTask(plugin, () -> {
+            if (throwable != null) {
+                plugin.logSevere("Failed to copy arena world " + templateName + ": " +
+                        throwable.getMessage());
+                deleteFolderAsync(target);
+                result.completeExceptionally(throwable);
+                return;
+            }
+
+            World world = new WorldCreator(worldName).copy(settings).createWorld();
+            if (world == null) {
+                deleteFolderAsync(target);
+                result.completeExceptionally(new IllegalStateException("Could not load " + worldName));
+                return;
+            }
+
+            world.setAutoSave(false);
+            world.setGameRule(GameRule.SPAWN_CHUNK_RADIUS, 0);
+
+            result.complete(new ArenaInstance(template, template.copyFor(world), world, target.toFile()));
+        }));
+
+        return result;
+    }
+
+    /**
+     * Top up the ready pool for every valid arena
+     */
+    private void refillAll() {
+        for (Arena arena : plugin.getArenaManager().getAllArenas()) {
+            if (arena.isValid()) {
+                refill(arena);
+            }
+        }
+    }
+
+    /**
+     * Top up the ready pool for one arena
+     */
+    private void refill(@NotNull Arena template) {
+        if (!enabled || template.getWorldName() == null) return;
+
+        String key = template.getName();
+        Deque<ArenaInstance> ready = pool.computeIfAbsent(key, k -> new ArrayDeque<>());
+
+        int missing;
+        synchronized (ready) {
+            missing = poolSize - ready.size() - pending.getOrDefault(key, 0);
+        }
+
+        for (int i = 0; i < missing; i++) {
+            pending.merge(key, 1, Integer::sum);
+            createInstance(template).whenComplete((instance, throwable) -> {
+                pending.merge(key, -1, Integer::sum);
+                if (instance != null) {
+                    synchronized (ready) {
+                        ready.add(instance);
+                    }
+                }
+            });
+        }
+    }
+
+    /**
+     * Unload an instance world and delete its folder
+     */
+    private void destroy(@NotNull ArenaInstance instance, boolean async) {
+        World world = instance.getWorld();
+        World fallback = plugin.getServer().getWorlds().getFirst();
+
+        world.getPlayers().forEach(player -> player.teleport(fallback.getSpawnLocation()));
+        if (!plugin.getServer().unloadWorld(world, false)) {
+            plugin.logWarning("Could not unload instance world " + world.getName());
+            return;
+        }
+
+        if (async) {
+            deleteFolderAsync(instance.getFolder().toPath());
+        } else {
+            deleteFolder(instance.getFolder().toPath());
+        }
+    }
+
+    /**
+     * Remove instance folders left behind by a previous run
+     */
+    private void deleteStaleInstances() {
+        File[] stale = plugin.getServer().getWorldContainer()
+                .listFiles(file -> file.isDirectory() && file.getName().startsWith(prefix));
+        if (stale == null) return;
+
+        for (File folder : stale) {
+            if (plugin.getServer().getWorld(folder.getName()) == null) {
+                deleteFolderAsync(folder.toPath());
+            }
+        }
+    }
+
+    private static void copyFolder(@NotNull Path source, @NotNull Path target) throws IOException {
+        try (Stream<Path> paths = Files.walk(source)) {
+            for (Path path : (Iterable<Path>) paths::iterator) {
+                if (SKIPPED_FILES.contains(path.getFileName().toString())) continue;
+
+                Path destination = target.resolve(source.relativize(path).toString());
+                if (Files.isDirectory(path)) {
+                    Files.createDirectories(destination);
+                } else {
+                    Files.copy(path, destination, StandardCopyOption.REPLACE_EXISTING);
+                }
+            }
+        }
+    }
+
+    private void deleteFolderAsync(@NotNull Path folder) {
+        CompletableFuture.runAsync(() -> deleteFolder(folder));
+    }
+
+    private void deleteFolder(@NotNull Path folder) {
+        if (!Files.exists(folder)) return;
+
+        try (Stream<Path> paths = Files.walk(folder)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        } catch (IOException e) {
+            plugin.logWarning("Failed to delete " + folder + ": " + e.getMessage());
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Get number of ready instances across all arenas
+     */
+    public int getReadyCount() {
+        return pool.values().stream().mapToInt(Deque::size).sum();
+    }
+
+    /**
+     * Get number of instances in use by games
+     */
+    public int getInUseCount() {
+        return inUse.size();
+    }
+
+    /**
+     * Shutdown, discarding every instance
+     */
+    public void shutdown() {
+        for (ArenaInstance instance : inUse.values()) {
+            destroy(instance, false);
+        }
+        for (Deque<ArenaInstance> ready : pool.values()) {
+            for (ArenaInstance instance : ready) {
+                destroy(instance, false);
+            }
+        }
+        inUse.clear();
+        pool.clear();
+    }
+}
\ No newline at end of file
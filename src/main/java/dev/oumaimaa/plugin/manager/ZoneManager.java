@@ -1,15 +1,230 @@
 package dev.oumaimaa.plugin.manager;
 
 import dev.oumaimaa.Main;
+import dev.oumaimaa.plugin.constant.ZoneRenderMode;
+import dev.oumaimaa.plugin.render.ParticleZoneRenderer;
+import dev.oumaimaa.plugin.render.WorldBorderZoneRenderer;
+import dev.oumaimaa.plugin.render.ZoneRenderer;
+import dev.oumaimaa.plugin.skeleton.Arena;
+import dev.oumaimaa.plugin.skeleton.GamePlayer;
+import dev.oumaimaa.plugin.skeleton.Zone;
+import dev.oumaimaa.plugin.skeleton.ZoneTimeline;
+import org.bukkit.Color;
+import org.bukkit.Location;
+import org.bukkit.Particle;
+import org.bukkit.World;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.file.FileConfiguration;
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
- * Manages zone operations across all games
+ * Manages zone operations across all games.
+ * <p>
+ * Zones hold no timers of their own; each game evaluates its zone from the
+ * {@link dev.oumaimaa.plugin.task.GameTicker} loop, which also provides the
+ * zone clock.
  */
 public class ZoneManager {
 
     private final Main plugin;
+    private final Set<Zone> zones;
+    private final Location scratch;
+
+    private int damageInterval;
+    private ZoneRenderMode renderMode;
+    private ZoneRenderer renderer;
+    private volatile ZoneTimeline defaultTimeline;
+    private volatile Map<String, ZoneTimeline> arenaTimelines;
 
     public ZoneManager(Main plugin) {
         this.plugin = plugin;
+        this.zones = ConcurrentHashMap.newKeySet();
+        this.scratch = new Location(null, 0, 0, 0);
+
+        loadSettings();
+        compileTimelines();
+    }
+
+    /**
+     * Reload zone settings and recompile timelines.
+     * Running zones keep the timeline they started with.
+     */
+    public void reload() {
+        loadSettings();
+        compileTimelines();
+    }
+
+    /**
+     * Compile the default timeline and one per arena override
+     */
+    private void compileTimelines() {
+        ZoneTimeline compiledDefault = ZoneTimeline.compile(plugin.getConfigManager(), null);
+        Map<String, ZoneTimeline> compiled = new HashMap<>();
+
+        ConfigurationSection overrides = plugin.getConfigManager().getZonesConfig()
+                .getConfigurationSection("arena-overrides");
+        if (overrides != null) {
+            for (String arenaName : overrides.getKeys(false)) {
+                compiled.put(arenaName, ZoneTimeline.compile(plugin.getConfigManager(), arenaName));
+            }
+        }
+
+        this.defaultTimeline = compiledDefault;
+        this.arenaTimelines = Map.copyOf(compiled);
+
+        plugin.logInfo("Compiled zone timeline: " + compiledDefault.getStageCount() + " stages, " +
+                compiled.size() + " arena overrides");
+    }
+
+    /**
+     * Get the timeline for an arena
+     */
+    public @NotNull ZoneTimeline getTimeline(@NotNull Arena arena) {
+        return arenaTimelines.getOrDefault(arena.getName(), defaultTimeline);
+    }
+
+    /**
+     * Cache zone settings used by the engine
+     */
+    private void loadSettings() {
+        FileConfiguration config = plugin.getConfigManager().getMainConfig();
+
+        this.damageInterval = Math.max(1, config.getInt("zone.damage-interval", 20));
+
+        ZoneRenderMode mode = ZoneRenderMode.PARTICLES;
+        try {
+            mode = ZoneRenderMode.valueOf(config.getString("zone.visual.render-mode", "PARTICLES").toUpperCase());
+        } catch (IllegalArgumentException e) {
+            plugin.logWarning("Unknown zone render mode, falling back to PARTICLES");
+        }
+        if (mode == ZoneRenderMode.PARTICLES && !config.getBoolean("zone.visual.show-particles", true)) {
+            mode = ZoneRenderMode.NONE;
+        }
+
+        if (renderer != null) {
+            renderer.clearAll();
+        }
+        this.renderMode = mode;
+        this.renderer = createRenderer(mode, config);
+    }
+
+    /**
+     * Create the renderer for a render mode
+     */
+    private ZoneRenderer createRenderer(@NotNull ZoneRenderMode mode, @NotNull FileConfiguration config) {
+        return switch (mode) {
+            case WORLD_BORDER -> new WorldBorderZoneRenderer(
+                    config.getInt("zone.visual.border-warning-blocks", 5),
+                    config.getInt("zone.visual.border-warning-time", 15)
+            );
+            case PARTICLES -> new ParticleZoneRenderer(
+                    config.getBoolean("performance.optimization.optimize-particles", true),
+                    Math.max(1, config.getInt("zone.visual.particle-density", 5)),
+                    config.getDouble("zone.visual.particle-spacing", 1.5),
+                    config.getDouble("zone.visual.particle-view-distance", 48.0),
+                    config.getDouble("zone.visual.particle-height", 1.0),
+                    new Particle.DustOptions(Color.fromRGB(
+                            config.getInt("zone.visual.particle-color.red", 255),
+                            config.getInt("zone.visual.particle-color.green", 0),
+                            config.getInt("zone.visual.particle-color.blue", 0)
+                    ), 1.0f)
+            );
+            case NONE -> null;
+        };
+    }
+
+    /**
+     * Register a zone with the engine
+     */
+    public void register(@NotNull Zone zone) {
+        zones.add(zone);
+    }
+
+    /**
+     * Remove a zone from the engine
+     */
+    public void unregister(@NotNull Zone zone) {
+        if (zones.remove(zone) && renderer != null) {
+            renderer.clear(zone);
+        }
+    }
+
+    /**
+     * Evaluate a zone for the given tick.
+     * The local tick is offset by the game's phase so periodic work is staggered.
+     */
+    public void evaluate(@NotNull Zone zone, long tick, long localTick) {
+        if (!zones.contains(zone)) return;
+
+        zone.update(tick);
+
+        if (localTick % damageInterval == 0) {
+            applyDamage(zone);
+        }
+
+        if (renderer != null) {
+            renderer.render(zone, tick);
+        }
+    }
+
+    /**
+     * Damage every alive player standing outside the zone
+     */
+    private void applyDamage(@NotNull Zone zone) {
+        World world = zone.getWorld();
+        if (world == null) return;
+
+        for (GamePlayer gp : zone.getGame().getAlivePlayers()) {
+            Player player = gp.getPlayer();
+            player.getLocation(scratch);
+
+            if (scratch.getWorld() == world && zone.isOutside(scratch.getX(), scratch.getZ())) {
+                zone.damagePlayer(player);
+            }
+        }
+    }
+
+    /**
+     * Get the zone clock tick
+     */
+    public long getCurrentTick() {
+        return plugin.getGameTicker().getCurrentTick();
+    }
+
+    /**
+     * Get the zone clock tick including the fraction elapsed since the last tick
+     */
+    public double getPreciseTick() {
+        return plugin.getGameTicker().getPreciseTick();
+    }
+
+    /**
+     * Get the active zone render mode
+     */
+    public ZoneRenderMode getRenderMode() {
+        return renderMode;
+    }
+
+    /**
+     * Get number of zones being evaluated
+     */
+    public int getActiveZoneCount() {
+        return zones.size();
+    }
+
+    /**
+     * Shutdown
+     */
+    public void shutdown() {
+        if (renderer != null) {
+            renderer.clearAll();
+        }
+        zones.clear();
     }
 }
\ No newline at end of file
@@ -17,7 +17,7 @@ public record Achievement(String id, String name, String description, Achievemen
      * Check if player has completed this achievement
      */
     public boolean checkProgress(int currentValue) {
-        return currentValue >= requiredValue;
+        return type.isLowerBetter() ? currentValue <= requiredValue : currentValue >= requiredValue;
     }
 
     /**
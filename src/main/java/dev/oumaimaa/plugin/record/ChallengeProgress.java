@@ -0,0 +1,8 @@
+package dev.oumaimaa.plugin.record;
+
+/**
+ * Progress counter for a challenge, tagged with the epoch day or week it counts towards
+ */
+public record ChallengeProgress(long period, int progress) {
+
+}
\ No newline at end of file
@@ -0,0 +1,158 @@
+package dev.oumaimaa.plugin.render;
+
+import dev.oumaimaa.plugin.skeleton.GamePlayer;
+import dev.oumaimaa.plugin.skeleton.Zone;
+import org.bukkit.Location;
+import org.bukkit.Particle;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Draws the zone border as a ring of dust particles.
+ * <p>
+ * Particles are sent to each game participant individually. With
+ * optimization enabled only the arc within view distance of the viewer is
+ * drawn, and points get sparser the further they are from the viewer.
+ */
+public class ParticleZoneRenderer implements ZoneRenderer {
+
+    private static final long PARTICLE_PERIOD = 10L;
+    private static final int TABLE_SIZE = 4096;
+    private static final int TABLE_MASK = TABLE_SIZE - 1;
+    private static final double INDEX_PER_RADIAN = TABLE_SIZE / (Math.PI * 2);
+    private static final double[] SIN = new double[TABLE_SIZE];
+    private static final double[] COS = new double[TABLE_SIZE];
+
+    static {
+        for (int i = 0; i < TABLE_SIZE; i++) {
+            double radians = i / INDEX_PER_RADIAN;
+            SIN[i] = Math.sin(radians);
+            COS[i] = Math.cos(radians);
+        }
+    }
+
+    private final boolean optimize;
+    private final int densityStep;
+    private final double spacing;
+    private final double viewDistance;
+    private final double height;
+    private final Particle.DustOptions dustOptions;
+    private final Location scratch;
+
+    public ParticleZoneRenderer(boolean optimize, int particleDensity, double spacing, double viewDistance,
+                                double height, @NotNull Particle.DustOptions dustOptions) {
+        this.optimize = optimize;
+        this.densityStep = Math.max(1, (int) Math.round(particleDensity * TABLE_SIZE / 360.0));
+        this.spacing = Math.max(0.25, spacing);
+        this.viewDistance = Math.max(8.0, viewDistance);
+        this.height = height;
+        this.dustOptions = dustOptions;
+        this.scratch = new Location(null, 0, 0, 0);
+    }
+
+    @Override
+    public void render(@NotNull Zone zone, long tick) {
+        if ((tick - zone.getGame().getTickOffset()) % PARTICLE_PERIOD != 0) return;
+
+        World world = zone.getWorld();
+        if (world == null) return;
+
+        double radius = zone.getCurrentRadius();
+        if (radius <= 0) return;
+
+        for (GamePlayer gp : zone.getGame().getAllPlayers()) {
+            Player player = gp.getPlayer();
+            if (!player.isOnline()) continue;
+
+            player.getLocation(scratch);
+            if (scratch.getWorld() != world) continue;
+
+            if (optimize) {
+                renderVisibleArc(player, zone, radius);
+            } else {
+                renderFullRing(player, zone, radius);
+            }
+        }
+    }
+
+    /**
+     * Draw the whole ring at the configured angular density
+     */
+    private void renderFullRing(@NotNull Player player, @NotNull Zone zone, double radius) {
+        double y = scratch.getY() + height;
+
+        for (int index = 0; index < TABLE_SIZE; index += densityStep) {
+            double x = zone.getCenterX() + radius * COS[index];
+            double z = zone.getCenterZ() + radius * SIN[index];
+            player.spawnParticle(Particle.DUST, x, y, z, 1, dustOptions);
+        }
+    }
+
+    /**
+     * Draw only the arc within view distance, thinning points with distance
+     */
+    private void renderVisibleArc(@NotNull Player player, @NotNull Zone zone, double radius) {
+        double dx = scratch.getX() - zone.getCenterX();
+        double dz = scratch.getZ() - zone.getCenterZ();
+        double distanceSquared = dx * dx + dz * dz;
+        double distance = Math.sqrt(distanceSquared);
+        double radiusSquared = radius * radius;
+        double viewSquared = viewDistance * viewDistance;
+
+        // Law of cosines: a ring point at angle t from the viewer's bearing is within
+        // view distance when cos(t) >= (d^2 + r^2 - v^2) / (2dr)
+        int halfSpan;
+        if (distance < 1.0E-6) {
+            if (radius > viewDistance) return;
+            halfSpan = TABLE_SIZE / 2;
+        } else {
+            double minCos = (distanceSquared + radiusSquared - viewSquared) / (2 * distance * radius);
+            if (minCos > 1) return;
+            halfSpan = minCos < -1
+                    ? TABLE_SIZE / 2
+                    : (int) Math.ceil(Math.acos(minCos) * INDEX_PER_RADIAN);
+        }
+
+        boolean fullRing = halfSpan >= TABLE_SIZE / 2;
+        if (fullRing) halfSpan = TABLE_SIZE / 2;
+
+        int bearing = (int) Math.round(Math.atan2(dz, dx) * INDEX_PER_RADIAN) & TABLE_MASK;
+        int baseStep = Math.max(1, (int) Math.round(spacing / radius * INDEX_PER_RADIAN));
+        double nearSquared = viewSquared / 9;
+        double midSquared = viewSquared * 4 / 9;
+        double y = scratch.getY() + height;
+
+        int offset = -halfSpan;
+        while (fullRing ? offset < halfSpan : offset <= halfSpan) {
+            double pointSquared = distanceSquared + radiusSquared
+                    - 2 * distance * radius * COS[offset & TABLE_MASK];
+
+            if (pointSquared <= viewSquared) {
+                int index = (bearing + offset) & TABLE_MASK;
+                double x = zone.getCenterX() + radius * COS[index];
+                double z = zone.getCenterZ() + radius * SIN[index];
+                player.spawnParticle(Particle.DUST, x, y, z, 1, dustOptions);
+            }
+
+            // Distance LOD: full density close by, half and quarter further out
+            if (pointSquared < nearSquared) {
+                offset += baseStep;
+            } else if (pointSquared < midSquared) {
+                offset += baseStep * 2;
+            } else {
+                offset += baseStep * 4;
+            }
+        }
+    }
+
+    @Override
+    public void clear(@NotNull Zone zone) {
+        // Particles fade on their own
+    }
+
+    @Override
+    public void clearAll() {
+        // Particles fade on their own
+    }
+}
\ No newline at end of file
@@ -0,0 +1,137 @@
+package dev.oumaimaa.plugin.render;
+
+import com.github.retrooper.packetevents.PacketEvents;
+import com.github.retrooper.packetevents.wrapper.play.server.WrapperPlayServerInitializeWorldBorder;
+import dev.oumaimaa.plugin.skeleton.GamePlayer;
+import dev.oumaimaa.plugin.skeleton.Zone;
+import org.bukkit.Location;
+import org.bukkit.WorldBorder;
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Shows the zone as a client-side world border.
+ * <p>
+ * Each participant gets one packet per shrink segment and the client
+ * interpolates the shrink itself. The border is square, so it encloses
+ * the circular damage area rather than tracing it.
+ */
+public class WorldBorderZoneRenderer implements ZoneRenderer {
+
+    private static final long RECONCILE_PERIOD = 20L;
+    private static final int PORTAL_TELEPORT_BOUNDARY = 29_999_984;
+    private static final long MILLIS_PER_TICK = 50L;
+
+    private final Map<Zone, Map<UUID, Viewer>> viewers;
+    private final int warningBlocks;
+    private final int warningTime;
+
+    public WorldBorderZoneRenderer(int warningBlocks, int warningTime) {
+        this.viewers = new ConcurrentHashMap<>();
+        this.warningBlocks = warningBlocks;
+        this.warningTime = warningTime;
+    }
+
+    @Override
+    public void render(@NotNull Zone zone, long tick) {
+        if (zone.getWorld() == null) return;
+
+        Map<UUID, Viewer> zoneViewers = viewers.computeIfAbsent(zone, z -> new ConcurrentHashMap<>());
+        int version = zone.getSegmentVersion();
+
+        for (GamePlayer gp : zone.getGame().getAllPlayers()) {
+            Player player = gp.getPlayer();
+            if (!player.isOnline() || player.getWorld() != zone.getWorld()) continue;
+
+            Viewer viewer = zoneViewers.computeIfAbsent(player.getUniqueId(), id -> new Viewer(player));
+            viewer.seenTick = tick;
+
+            if (viewer.version != version) {
+                viewer.version = version;
+                sendSegment(player, zone, tick);
+            }
+        }
+
+        // Restore the real border for players who left the game or the arena world
+        if ((tick - zone.getGame().getTickOffset()) % RECONCILE_PERIOD == 0) {
+            Iterator<Viewer> iterator = zoneViewers.values().iterator();
+            while (iterator.hasNext()) {
+                Viewer viewer = iterator.next();
+                if (viewer.seenTick != tick) {
+                    iterator.remove();
+                    reset(viewer.player);
+                }
+            }
+        }
+    }
+
+    /**
+     * Send the current shrink segment to a player
+     */
+    private void sendSegment(@NotNull Player player, @NotNull Zone zone, long tick) {
+        double currentDiameter = zone.radiusAt(tick) * 2;
+        double targetDiameter = currentDiameter;
+        long speed = 0L;
+
+        long remaining = zone.getSegmentEndTick() - tick;
+        if (zone.isShrinking() && remaining > 0) {
+            targetDiameter = zone.getTargetRadius() * 2;
+            speed = remaining * MILLIS_PER_TICK;
+        }
+
+        PacketEvents.getAPI().getPlayerManager().sendPacket(player, new WrapperPlayServerInitializeWorldBorder(
+                zone.getCenterX(), zone.getCenterZ(),
+                currentDiameter, targetDiameter, speed,
+                PORTAL_TELEPORT_BOUNDARY, warningBlocks, warningTime
+        ));
+    }
+
+    /**
+     * Send the player's real world border back to them
+     */
+    private void reset(@NotNull Player player) {
+        if (!player.isOnline()) return;
+
+        WorldBorder border = player.getWorld().getWorldBorder();
+        Location center = border.getCenter();
+
+        PacketEvents.getAPI().getPlayerManager().sendPacket(player, new WrapperPlayServerInitializeWorldBorder(
+                center.getX(), center.getZ(),
+                border.getSize(), border.getSize(), 0L,
+                PORTAL_TELEPORT_BOUNDARY, border.getWarningDistance(), border.getWarningTime()
+        ));
+    }
+
+    @Override
+    public void clear(@NotNull Zone zone) {
+        Map<UUID, Viewer> zoneViewers = viewers.remove(zone);
+        if (zoneViewers != null) {
+            zoneViewers.values().forEach(viewer -> reset(viewer.player));
+        }
+    }
+
+    @Override
+    public void clearAll() {
+        for (Zone zone : viewers.keySet()) {
+            clear(zone);
+        }
+    }
+
+    /**
+     * Border state last sent to a player
+     */
+    private static final class Viewer {
+        private final Player player;
+        private int version = -1;
+        private long seenTick;
+
+        private Viewer(Player player) {
+            this.player = player;
+        }
+    }
+}
\ No newline at end of file
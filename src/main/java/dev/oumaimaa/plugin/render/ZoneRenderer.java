@@ -0,0 +1,26 @@
+package dev.oumaimaa.plugin.render;
+
+import dev.oumaimaa.plugin.skeleton.Zone;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Draws a zone border for the players of its game.
+ * Called by the zone engine on the main thread.
+ */
+public interface ZoneRenderer {
+
+    /**
+     * Render the zone for the given engine tick
+     */
+    void render(@NotNull Zone zone, long tick);
+
+    /**
+     * Remove anything shown for the zone
+     */
+    void clear(@NotNull Zone zone);
+
+    /**
+     * Remove everything this renderer is showing
+     */
+    void clearAll();
+}
\ No newline at end of file
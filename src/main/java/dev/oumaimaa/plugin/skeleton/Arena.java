@@ -11,13 +11,18 @@ import java.util.ArrayList;
 import java.util.List;
 
 /**
- * Represents a game arena
+ * Represents a game arena.
+ * <p>
+ * Locations are kept with their world names and are bound to the world
+ * only while it is loaded, so arena worlds can be unloaded when idle.
  */
 public class Arena {
 
     private final String name;
     private final List<Location> spawnLocations;
     private String displayName;
+    private String worldName;
+    private String lobbyWorldName;
     private Location center;
     private Location lobbyLocation;
     private int maxPlayers;
@@ -44,11 +49,13 @@ public class Arena {
         // Load center
         if (section.contains("center")) {
             arena.center = deserializeLocation(section.getConfigurationSection("center"));
+            arena.worldName = section.getString("center.world");
         }
 
         // Load lobby
         if (section.contains("lobby")) {
             arena.lobbyLocation = deserializeLocation(section.getConfigurationSection("lobby"));
+            arena.lobbyWorldName = section.getString("lobby.world");
         }
 
         // Load spawns
@@ -62,14 +69,22 @@ public class Arena {
             }
         }
 
+        // Bind to worlds that are already loaded, the rest are bound when loaded
+        for (String worldName : new String[]{arena.worldName, arena.lobbyWorldName}) {
+            World world = worldName != null ? plugin.getServer().getWorld(worldName) : null;
+            if (world != null) {
+                arena.bindWorld(world);
+            }
+        }
+
         return arena;
     }
 
     /**
      * Serialize location to config
      */
-    private static void serializeLocation(@NotNull FileConfiguration config, String path, @NotNull Location loc) {
-        config.set(path + ".world", loc.getWorld().getName());
+    private static void serializeLocation(@NotNull FileConfiguration config, String path, @NotNull Location loc, String worldName) {
+        config.set(path + ".world", worldName);
         config.set(path + ".x", loc.getX());
         config.set(path + ".y", loc.getY());
         config.set(path + ".z", loc.getZ());
@@ -78,15 +93,10 @@ public class Arena {
     }
 
     /**
-     * Deserialize location from config
+     * Deserialize location from config, left unbound from its world
      */
     private static Location deserializeLocation(ConfigurationSection section) {
-        if (section == null) return null;
-
-        String worldName = section.getString("world");
-        assert worldName != null;
-        World world = Main.getInstance().getServer().getWorld(worldName);
-        if (world == null) return null;
+        if (section == null || section.getString("world") == null) return null;
 
         double x = section.getDouble("x");
         double y = section.getDouble("y");
@@ -94,7 +104,7 @@ public class Arena {
         float yaw = (float) section.getDouble("yaw");
         float pitch = (float) section.getDouble("pitch");
 
-        return new Location(world, x, y, z, yaw, pitch);
+        return new Location(null, x, y, z, yaw, pitch);
     }
 
     /**
@@ -106,18 +116,107 @@ public class Arena {
         config.set(path + ".max-players", maxPlayers);
 
         if (center != null) {
-            serializeLocation(config, path + ".center", center);
+            serializeLocation(config, path + ".center", center, worldName);
         }
 
         if (lobbyLocation != null) {
-            serializeLocation(config, path + ".lobby", lobbyLocation);
+            serializeLocation(config, path + ".lobby", lobbyLocation, lobbyWorldName);
         }
 
         for (int i = 0; i < spawnLocations.size(); i++) {
-            serializeLocation(config, path + ".spawns." + i, spawnLocations.get(i));
+            serializeLocation(config, path + ".spawns." + i, spawnLocations.get(i), worldName);
+        }
+    }
+
+    /**
+     * Attach locations stored for this world to the loaded world
+     */
+    public void bindWorld(@NotNull World world) {
+        if (world.getName().equals(worldName)) {
+            if (center != null) center.setWorld(world);
+            for (Location spawn : spawnLocations) {
+                spawn.setWorld(world);
+            }
+        }
+        if (world.getName().equals(lobbyWorldName) && lobbyLocation != null) {
+            lobbyLocation.setWorld(world);
         }
     }
 
+    /**
+     * Detach locations from a world that is about to unload
+     */
+    public void unbindWorld(@NotNull World world) {
+        if (world.getName().equals(worldName)) {
+            if (center != null) center.setWorld(null);
+            for (Location spawn : spawnLocations) {
+                spawn.setWorld(null);
+            }
+        }
+        if (world.getName().equals(lobbyWorldName) && lobbyLocation != null) {
+            lobbyLocation.setWorld(null);
+        }
+    }
+
+    /**
+     * Create a copy of this arena with its locations moved to another world.
+     * Locations outside the arena world (such as a lobby) are kept as-is.
+     */
+    public @NotNull Arena copyFor(@NotNull World world) {
+        boolean lobbyInArena = lobbyWorldName != null && lobbyWorldName.equals(worldName);
+        Arena copy = new Arena(name);
+
+        copy.displayName = displayName;
+        copy.enabled = enabled;
+        copy.maxPlayers = maxPlayers;
+        copy.worldName = world.getName();
+        copy.center = rebase(center, world);
+        copy.lobbyLocation = lobbyInArena ? rebase(lobbyLocation, world) : copyOf(lobbyLocation);
+        copy.lobbyWorldName = lobbyInArena ? world.getName() : lobbyWorldName;
+        for (Location spawn : spawnLocations) {
+            copy.spawnLocations.add(rebase(spawn, world));
+        }
+
+        return copy;
+    }
+
+    /**
+     * Move an arena world location to another world.
+     * Works whether or not the arena world is loaded.
+     */
+    private static Location rebase(Location location, World target) {
+        if (location == null) return null;
+
+        Location rebased = location.clone();
+        rebased.setWorld(target);
+        return rebased;
+    }
+
+    private static Location copyOf(Location location) {
+        return location != null ? location.clone() : null;
+    }
+
+    /**
+     * Get the world the arena is played in, or null if it isn't loaded
+     */
+    public World getWorld() {
+        return center != null && center.isWorldLoaded() ? center.getWorld() : null;
+    }
+
+    /**
+     * Get the name of the world the arena is played in
+     */
+    public String getWorldName() {
+        return worldName;
+    }
+
+    /**
+     * Get the name of the world the lobby location is in
+     */
+    public String getLobbyWorldName() {
+        return lobbyWorldName;
+    }
+
     /**
      * Add a spawn location
      */
@@ -169,6 +268,7 @@ public class Arena {
 
     public void setCenter(Location center) {
         this.center = center;
+        this.worldName = center != null && center.getWorld() != null ? center.getWorld().getName() : null;
     }
 
     public Location getLobbyLocation() {
@@ -177,6 +277,8 @@ public class Arena {
 
     public void setLobbyLocation(Location lobbyLocation) {
         this.lobbyLocation = lobbyLocation;
+        this.lobbyWorldName = lobbyLocation != null && lobbyLocation.getWorld() != null
+                ? lobbyLocation.getWorld().getName() : null;
     }
 
     public List<Location> getSpawnLocations() {
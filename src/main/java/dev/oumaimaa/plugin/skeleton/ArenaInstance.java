@@ -0,0 +1,39 @@
+package dev.oumaimaa.plugin.skeleton;
+
+import org.bukkit.World;
+
+import java.io.File;
+
+/**
+ * A private copy of an arena template world used by a single game
+ */
+public class ArenaInstance {
+
+    private final Arena template;
+    private final Arena arena;
+    private final World world;
+    private final File folder;
+
+    public ArenaInstance(Arena template, Arena arena, World world, File folder) {
+        this.template = template;
+        this.arena = arena;
+        this.world = world;
+        this.folder = folder;
+    }
+
+    public Arena getTemplate() {
+        return template;
+    }
+
+    public Arena getArena() {
+        return arena;
+    }
+
+    public World getWorld() {
+        return world;
+    }
+
+    public File getFolder() {
+        return folder;
+    }
+}
\ No newline at end of file
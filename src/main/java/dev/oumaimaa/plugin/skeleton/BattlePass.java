@@ -1,5 +1,6 @@
 package dev.oumaimaa.plugin.skeleton;
 
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -11,6 +12,7 @@ public class BattlePass {
     private final int season;
     private final long endDate;
     private final Map<Integer, BattlePassTier> tiers;
+    private int[] cumulativeXP;
 
     public BattlePass(int season, long endDate) {
         this.season = season;
@@ -20,6 +22,54 @@ public class BattlePass {
 
     public void addTier(BattlePassTier tier) {
         tiers.put(tier.getTierNumber(), tier);
+        cumulativeXP = null;
+    }
+
+    /**
+     * Get the tier reached with the given total XP, using a binary search
+     * over the cumulative XP needed for each tier
+     */
+    public int getTierForXP(int xp) {
+        int[] thresholds = buildCumulativeXP();
+
+        int low = 0;
+        int high = thresholds.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (thresholds[mid] <= xp) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Get the total XP needed for each tier, index 0 being tier 1
+     */
+    public int[] getCumulativeXP() {
+        int[] thresholds = buildCumulativeXP();
+        return Arrays.copyOf(thresholds, thresholds.length);
+    }
+
+    /**
+     * Build the cumulative XP array if a tier was added since the last lookup
+     */
+    private int[] buildCumulativeXP() {
+        int[] thresholds = cumulativeXP;
+        if (thresholds == null) {
+            thresholds = new int[tiers.size()];
+            int required = 0;
+            for (int i = 0; i < thresholds.length; i++) {
+                BattlePassTier tier = tiers.get(i + 1);
+                // Keep the array non-decreasing so it stays searchable
+                required = Math.max(required, tier != null ? tier.getRequiredXP() : Integer.MAX_VALUE);
+                thresholds[i] = required;
+            }
+            cumulativeXP = thresholds;
+        }
+        return thresholds;
     }
 
     public BattlePassTier getTier(int tierNumber) {
@@ -0,0 +1,188 @@
+package dev.oumaimaa.plugin.skeleton;
+
+import org.bukkit.block.Block;
+import org.bukkit.block.BlockState;
+import org.bukkit.block.data.BlockData;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Records the original block state of every position changed in an arena.
+ * <p>
+ * Positions are packed into a single long and states are stored as indexes
+ * into a palette of distinct {@link BlockData}, so each entry costs twelve
+ * bytes plus its slot in the position index. Only the first state seen for a
+ * position is kept, which is the state a rollback has to put back.
+ */
+public class BlockJournal {
+
+    private static final int INITIAL_CAPACITY = 256;
+
+    private final List<BlockData> palette;
+    private final Map<BlockData, Integer> paletteIndex;
+    private long[] positions;
+    private int[] states;
+    private int[] index;
+    private int size;
+    private int holders;
+
+    public BlockJournal() {
+        this.palette = new ArrayList<>();
+        this.paletteIndex = new HashMap<>();
+        this.positions = new long[INITIAL_CAPACITY];
+        this.states = new int[INITIAL_CAPACITY];
+        this.index = new int[INITIAL_CAPACITY * 2];
+    }
+
+    /**
+     * Record a block before it changes
+     */
+    public boolean record(@NotNull Block block) {
+        return record(block.getX(), block.getY(), block.getZ(), block.getBlockData());
+    }
+
+    /**
+     * Record a captured block state before it is applied
+     */
+    public boolean record(@NotNull BlockState state) {
+        return record(state.getX(), state.getY(), state.getZ(), state.getBlockData());
+    }
+
+    /**
+     * Record the original data at a position.
+     * Returns false if the position was already recorded.
+     */
+    public boolean record(int x, int y, int z, @NotNull BlockData original) {
+        long position = pack(x, y, z);
+        int mask = index.length - 1;
+        int slot = mix(position) & mask;
+
+        while (index[slot] != 0) {
+            if (positions[index[slot] - 1] == position) return false;
+            slot = (slot + 1) & mask;
+        }
+
+        if (size == positions.length) {
+            positions = Arrays.copyOf(positions, size * 2);
+            states = Arrays.copyOf(states, size * 2);
+        }
+
+        positions[size] = position;
+        states[size] = paletteId(original);
+        size++;
+        index[slot] = size;
+
+        // Keep the index at most half full
+        if (size * 2 > index.length) {
+            rehash(index.length * 2);
+        }
+        return true;
+    }
+
+    private int paletteId(@NotNull BlockData data) {
+        Integer id = paletteIndex.get(data);
+        if (id == null) {
+            id = palette.size();
+            palette.add(data);
+            paletteIndex.put(data, id);
+        }
+        return id;
+    }
+
+    private void rehash(int capacity) {
+        int[] rebuilt = new int[capacity];
+        int mask = capacity - 1;
+
+        for (int i = 0; i < size; i++) {
+            int slot = mix(positions[i]) & mask;
+            while (rebuilt[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            rebuilt[slot] = i + 1;
+        }
+        this.index = rebuilt;
+    }
+
+    private static int mix(long value) {
+        long h = value * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    /**
+     * Pack block coordinates into a single long (26 bits x, 26 bits z, 12 bits y)
+     */
+    public static long pack(int x, int y, int z) {
+        return ((long) (x & 0x3FFFFFF) << 38) | ((long) (z & 0x3FFFFFF) << 12) | (y & 0xFFF);
+    }
+
+    public static int unpackX(long position) {
+        return (int) (position >> 38);
+    }
+
+    public static int unpackY(long position) {
+        return (int) (position << 52 >> 52);
+    }
+
+    public static int unpackZ(long position) {
+        return (int) (position << 26 >> 38);
+    }
+
+    /**
+     * Get the packed position of an entry
+     */
+    public long getPosition(int entry) {
+        return positions[entry];
+    }
+
+    /**
+     * Get the original data of an entry
+     */
+    public BlockData getOriginal(int entry) {
+        return palette.get(states[entry]);
+    }
+
+    /**
+     * Get the number of recorded positions
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Get the number of distinct recorded states
+     */
+    public int getPaletteSize() {
+        return palette.size();
+    }
+
+    /**
+     * Add a game recording into this journal
+     */
+    public void retain() {
+        holders++;
+    }
+
+    /**
+     * Remove a game recording into this journal, returning how many remain
+     */
+    public int release() {
+        return holders = Math.max(0, holders - 1);
+    }
+
+    /**
+     * Drop all recorded entries
+     */
+    public void clear() {
+        palette.clear();
+        paletteIndex.clear();
+        positions = new long[INITIAL_CAPACITY];
+        states = new int[INITIAL_CAPACITY];
+        index = new int[INITIAL_CAPACITY * 2];
+        size = 0;
+    }
+}
\ No newline at end of file
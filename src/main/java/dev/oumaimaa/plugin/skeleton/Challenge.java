@@ -16,10 +16,15 @@ public class Challenge {
     private boolean rewardClaimed;
 
     public Challenge(ChallengeTemplate template, ChallengeFrequency frequency) {
+        this(template, frequency, 0);
+    }
+
+    public Challenge(ChallengeTemplate template, ChallengeFrequency frequency, int progress) {
         this.template = template;
         this.frequency = frequency;
-        this.currentProgress = 0;
-        this.rewardClaimed = false;
+        this.currentProgress = progress;
+        // Rewards are paid the moment a challenge completes
+        this.rewardClaimed = isCompleted();
     }
 
     public void addProgress(int amount) {
@@ -34,6 +39,10 @@ public class Challenge {
         return Math.min(100.0, (double) currentProgress / template.requiredProgress() * 100);
     }
 
+    public String getId() {
+        return template.id();
+    }
+
     public String getName() {
         return template.name();
     }
@@ -1,27 +1,38 @@
 package dev.oumaimaa.plugin.skeleton;
 
 import dev.oumaimaa.Main;
+import dev.oumaimaa.plugin.config.MessageKey;
+import dev.oumaimaa.plugin.config.playerdata.PlayerStatistics;
 import dev.oumaimaa.plugin.constant.GameMode;
 import dev.oumaimaa.plugin.constant.GamePhase;
 import dev.oumaimaa.plugin.constant.GameState;
+import dev.oumaimaa.plugin.event.DamageEvent;
+import dev.oumaimaa.plugin.event.KillEvent;
+import dev.oumaimaa.plugin.manager.BossBarManager;
+import dev.oumaimaa.plugin.manager.ScoreboardManager;
+import dev.oumaimaa.plugin.task.ArenaWarmup;
+import net.kyori.adventure.audience.Audience;
+import net.kyori.adventure.audience.ForwardingAudience;
 import net.kyori.adventure.text.Component;
-import net.kyori.adventure.text.format.NamedTextColor;
+import net.kyori.adventure.text.JoinConfiguration;
 import net.kyori.adventure.title.Title;
 import org.bukkit.Location;
 import org.bukkit.Sound;
 import org.bukkit.entity.Player;
-import org.bukkit.scheduler.BukkitTask;
 import org.jetbrains.annotations.NotNull;
 
 import java.time.Duration;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.stream.Collectors;
 
 /**
- * Represents a single game instance
+ * Represents a single game instance.
+ * <p>
+ * The game is an {@link Audience} over every participant, including
+ * spectators. Kill-feed lines are collected during a tick and sent as a
+ * single message on the next game tick.
  */
-public class Game {
+public class Game implements ForwardingAudience {
 
     private final UUID id;
     private final Main plugin;
@@ -30,7 +41,9 @@ public class Game {
     private final Set<GamePlayer> players;
     private final Set<GamePlayer> alivePlayers;
     private final Set<GamePlayer> spectators;
-    private final Map<UUID, Integer> killCounts;
+    private final KillRanking ranking;
+    private final List<Component> killFeed;
+    private final int scoreboardInterval;
     private GameState state;
     private GamePhase phase;
     private Zone zone;
@@ -38,8 +51,18 @@ public class Game {
     private long startTime;
     private long endTime;
 
-    private BukkitTask countdownTask;
-    private BukkitTask gracePeriodTask;
+    private int tickOffset;
+    private ArenaWarmup warmup;
+    private BlockJournal journal;
+    private long warmupDeadlineTick;
+    private long graceEndTick;
+    private long cleanupTick;
+
+    private final Deque<Deployment> deployQueue;
+    private final Set<Deployment> pendingDeployments;
+    private int deployTotal;
+    private int deployLanded;
+    private long deployDeadlineTick;
 
     public Game(Main plugin, Arena arena, GameMode mode) {
         this.id = UUID.randomUUID();
@@ -52,7 +75,11 @@ public class Game {
         this.players = ConcurrentHashMap.newKeySet();
         this.alivePlayers = ConcurrentHashMap.newKeySet();
         this.spectators = ConcurrentHashMap.newKeySet();
-        this.killCounts = new ConcurrentHashMap<>();
+        this.ranking = new KillRanking();
+        this.killFeed = new ArrayList<>();
+        this.deployQueue = new ArrayDeque<>();
+        this.pendingDeployments = new HashSet<>();
+        this.scoreboardInterval = plugin.getConfigManager().getScoreboardUpdateInterval();
     }
 
     /**
@@ -71,14 +98,13 @@ public class Game {
             return;
         }
 
+        gamePlayer.reset();
         players.add(gamePlayer);
-        killCounts.put(gamePlayer.getUuid(), 0);
+        ranking.add(gamePlayer);
         plugin.getGameManager().addPlayerToGame(gamePlayer.getPlayer(), this);
 
-        broadcastMessage(Component.text(gamePlayer.getPlayer().getName() + " joined the game! ")
-                .color(NamedTextColor.GREEN)
-                .append(Component.text("(" + players.size() + "/" + maxPlayers + ")")
-                        .color(NamedTextColor.GRAY)));
+        broadcastMessage(plugin.getMessageManager().render(MessageKey.GAME_JOINED,
+                gamePlayer.getPlayer().getName(), players.size(), maxPlayers));
 
         checkStart();
 
@@ -89,13 +115,51 @@ public class Game {
      */
     public void removePlayer(GamePlayer gamePlayer) {
         players.remove(gamePlayer);
-        alivePlayers.remove(gamePlayer);
+        boolean wasAlive = alivePlayers.remove(gamePlayer);
         spectators.remove(gamePlayer);
         plugin.getGameManager().removePlayerFromGame(gamePlayer.getPlayer());
+        cancelDeployment(gamePlayer);
+
+        // Leavers forfeit their rank and place behind everyone still playing
+        if (state != GameState.ENDING && state != GameState.ENDED) {
+            ranking.remove(gamePlayer.getUuid());
+        }
+
+        // Leavers are no longer in the end-of-match commit, so their stats go in now
+        if (state == GameState.ACTIVE) {
+            if (mode == GameMode.RESURGENCE) {
+                gamePlayer.setPlacement(ranking.size() + 1);
+            } else if (wasAlive) {
+                gamePlayer.setPlacement(alivePlayers.size() + 1);
+            }
+            if (wasAlive) {
+                gamePlayer.setSurvivalTime(System.currentTimeMillis() - startTime);
+            }
+            plugin.getPlayerDataManager().commitMatch(List.of(gamePlayer), getDuration());
+        }
 
         if (state == GameState.WAITING) {
-            broadcastMessage(Component.text(gamePlayer.getPlayer().getName() + " left the game!")
-                    .color(NamedTextColor.RED));
+            broadcastMessage(plugin.getMessageManager().render(MessageKey.GAME_LEFT,
+                    gamePlayer.getPlayer().getName()));
+        }
+    }
+
+    /**
+     * Drop a leaving player's deployment so they aren't teleported back into the arena
+     */
+    private void cancelDeployment(@NotNull GamePlayer gamePlayer) {
+        if (deployQueue.removeIf(deployment -> deployment.player() == gamePlayer)) {
+            deployTotal--;
+        }
+
+        Iterator<Deployment> iterator = pendingDeployments.iterator();
+        while (iterator.hasNext()) {
+            Deployment deployment = iterator.next();
+            if (deployment.player() == gamePlayer) {
+                deployment.pending = false;
+                iterator.remove();
+                deployTotal--;
+            }
         }
     }
 
@@ -119,25 +183,107 @@ public class Game {
         state = GameState.STARTING;
         countdown = plugin.getConfigManager().getCountdownTime();
 
-        countdownTask = plugin.getServer().getScheduler().runTaskTimer(plugin, () -> {
-            if (countdown <= 0) {
-                countdownTask.cancel();
-                begin();
-                return;
+        // Warm arena chunks while players wait
+        warmup = new ArenaWarmup(plugin, arena);
+        warmup.start();
+        warmupDeadlineTick = plugin.getGameTicker().getCurrentTick() +
+                (countdown + plugin.getConfigManager().getWarmupTimeout()) * 20L;
+    }
+
+    /**
+     * Advance the game state machine (called by the game ticker every tick)
+     */
+    public void tick(long tick) {
+        long localTick = tick - tickOffset;
+        boolean secondTick = localTick % 20 == 0;
+
+        flushKillFeed();
+
+        switch (state) {
+            case STARTING -> {
+                warmup.tick();
+                if (secondTick) tickCountdown(tick);
             }
+            case ACTIVE -> {
+                if (phase == GamePhase.DEPLOYING) {
+                    tickDeployment(tick);
+                } else if (phase == GamePhase.GRACE_PERIOD && tick >= graceEndTick) {
+                    endGracePeriod();
+                }
+                if (zone != null) {
+                    plugin.getZoneManager().evaluate(zone, tick, localTick);
+                }
+                if (secondTick) {
+                    flushCombatProgress();
+                }
+            }
+            case ENDING -> {
+                if (tick >= cleanupTick) {
+                    cleanup();
+                    return;
+                }
+            }
+            default -> {
+            }
+        }
 
-            if (countdown <= 5 || countdown % 10 == 0) {
-                broadcastMessage(Component.text("Game starting in " + countdown + " seconds...")
-                        .color(NamedTextColor.YELLOW));
+        if (state != GameState.ENDED) {
+            updateHud(localTick, secondTick);
+        }
+    }
 
+    /**
+     * Advance the countdown by one second
+     */
+    private void tickCountdown(long tick) {
+        if (countdown <= 0) {
+            // Hold at zero until the arena is warm so the game never starts cold
+            if (!warmup.isComplete() && tick < warmupDeadlineTick) {
+                Component progress = plugin.getMessageManager().render(MessageKey.GAME_WARMING_UP,
+                        (int) (warmup.getProgress() * 100));
                 for (GamePlayer gp : players) {
-                    gp.getPlayer().playSound(gp.getPlayer().getLocation(),
-                            Sound.BLOCK_NOTE_BLOCK_PLING, 1.0f, 1.0f);
+                    gp.getPlayer().sendActionBar(progress);
                 }
+                return;
             }
 
-            countdown--;
-        }, 0L, 20L);
+            if (!warmup.isComplete()) {
+                plugin.logWarning("Arena " + arena.getName() + " warm-up timed out at " +
+                        warmup.getLoaded() + "/" + warmup.getTotal() + " chunks");
+            }
+            begin();
+            return;
+        }
+
+        if (countdown <= 5 || countdown % 10 == 0) {
+            broadcastMessage(plugin.getMessageManager().render(MessageKey.GAME_STARTING, countdown));
+
+            for (GamePlayer gp : players) {
+                gp.getPlayer().playSound(gp.getPlayer().getLocation(),
+                        Sound.BLOCK_NOTE_BLOCK_PLING, 1.0f, 1.0f);
+            }
+        }
+
+        countdown--;
+    }
+
+    /**
+     * Refresh scoreboards and boss bars for this game's players
+     */
+    private void updateHud(long localTick, boolean secondTick) {
+        boolean scoreboardTick = localTick % scoreboardInterval == 0;
+        if (!scoreboardTick && !secondTick) return;
+
+        ScoreboardManager scoreboards = plugin.getDisplayManager().getScoreboardManager();
+        BossBarManager bossBars = plugin.getDisplayManager().getBossBarManager();
+
+        for (GamePlayer gp : players) {
+            Player p = gp.getPlayer();
+            if (!p.isOnline()) continue;
+
+            if (scoreboardTick) scoreboards.updateScoreboard(p);
+            if (secondTick) bossBars.updateBossBars(p);
+        }
     }
 
     /**
@@ -155,40 +301,23 @@ public class Game {
      */
     private void begin() {
         this.state = GameState.ACTIVE;
-        this.phase = GamePhase.GRACE_PERIOD;
+        this.phase = GamePhase.DEPLOYING;
         this.startTime = System.currentTimeMillis();
         this.zone = new Zone(plugin, this);
 
-        // Teleport players and setup
-        teleportPlayersToArena();
-        giveStartingItems();
-
-        // Announce start
-        for (GamePlayer gp : players) {
-            Player p = gp.getPlayer();
-            p.showTitle(Title.title(
-                    Component.text("GAME START!").color(NamedTextColor.GREEN),
-                    Component.text("Good luck!").color(NamedTextColor.GRAY),
-                    Title.Times.times(
-                            Duration.ofMillis(500),
-                            Duration.ofMillis(2000),
-                            Duration.ofMillis(500)
-                    )
-            ));
-            p.playSound(p.getLocation(), Sound.ENTITY_ENDER_DRAGON_GROWL, 1.0f, 1.0f);
+        // Instance worlds are thrown away, shared arena worlds are journaled and rolled back
+        if (arena.getWorld() != null && !plugin.getWorldInstanceManager().isInstance(arena)) {
+            this.journal = plugin.getArenaManager().openJournal(arena.getWorld());
         }
 
-        broadcastMessage(Component.text("Grace period active! PvP disabled for " +
-                        plugin.getConfigManager().getGracePeriod() + " seconds")
-                .color(NamedTextColor.YELLOW));
-
-        startGracePeriod();
+        // Teleports run in cohorts from the game tick, grace starts once everyone has landed
+        queueDeployments();
     }
 
     /**
-     * Teleport all players to arena spawns
+     * Queue every player for deployment to a shuffled arena spawn
      */
-    private void teleportPlayersToArena() {
+    private void queueDeployments() {
         List<Location> spawns = arena.getSpawnLocations();
         if (spawns.isEmpty()) {
             plugin.logWarning("No spawn locations for arena: " + arena.getName());
@@ -200,19 +329,113 @@ public class Game {
 
         for (int i = 0; i < playerList.size(); i++) {
             GamePlayer gp = playerList.get(i);
-            Location spawn = spawns.get(i % spawns.size());
+            deployQueue.add(new Deployment(gp, spawns.get(i % spawns.size())));
+            alivePlayers.add(gp);
+        }
 
-            Player p = gp.getPlayer();
-            p.teleport(spawn);
-            p.setGameMode(org.bukkit.GameMode.SURVIVAL);
-            p.setHealth(20.0);
-            p.setFoodLevel(20);
-            p.getInventory().clear();
+        deployTotal = playerList.size();
+        deployLanded = 0;
+        deployDeadlineTick = plugin.getGameTicker().getCurrentTick() +
+                plugin.getConfigManager().getDeployTimeout() * 20L;
+    }
 
-            alivePlayers.add(gp);
+    /**
+     * Send the next cohort of players and start the grace period once all have landed
+     */
+    private void tickDeployment(long tick) {
+        int cohortSize = plugin.getConfigManager().getDeployCohortSize();
+
+        for (int i = 0; i < cohortSize && !deployQueue.isEmpty(); i++) {
+            deploy(deployQueue.poll());
+        }
+
+        if (deployQueue.isEmpty() && (deployLanded >= deployTotal || tick >= deployDeadlineTick)) {
+            finishDeployment();
         }
     }
 
+    /**
+     * Load the spawn chunk asynchronously, then teleport the player
+     */
+    private void deploy(@NotNull Deployment deployment) {
+        Player p = deployment.player().getPlayer();
+        Location spawn = deployment.spawn();
+
+        if (!players.contains(deployment.player()) || !p.isOnline() || spawn.getWorld() == null) {
+            deployLanded++;
+            return;
+        }
+
+        deployment.pending = true;
+        pendingDeployments.add(deployment);
+
+        spawn.getWorld().getChunkAtAsync(spawn)
+                .thenCompose(chunk -> p.teleportAsync(spawn))
+                .whenComplete((success, throwable) -> plugin.getServer().getScheduler().runTask(plugin, () -> {
+                    if (throwable != null || !Boolean.TRUE.equals(success)) {
+                        plugin.logWarning("Async teleport failed for " + p.getName() + ", retrying synchronously");
+                        if (deployment.pending && p.isOnline()) p.teleport(spawn);
+                    }
+                    land(deployment);
+                }));
+    }
+
+    /**
+     * Prepare a player who arrived at their spawn
+     */
+    private void land(@NotNull Deployment deployment) {
+        if (!deployment.pending) return;
+        deployment.pending = false;
+        pendingDeployments.remove(deployment);
+        deployLanded++;
+
+        Player p = deployment.player().getPlayer();
+        if (!players.contains(deployment.player()) || !p.isOnline() || state != GameState.ACTIVE) return;
+
+        p.setGameMode(org.bukkit.GameMode.SURVIVAL);
+        p.setHealth(20.0);
+        p.setFoodLevel(20);
+        p.getInventory().clear();
+    }
+
+    /**
+     * All players are in the arena (or timed out), start the match
+     */
+    private void finishDeployment() {
+        // Anyone still in flight after the timeout is moved synchronously
+        for (Deployment deployment : new ArrayList<>(pendingDeployments)) {
+            Player p = deployment.player().getPlayer();
+            if (players.contains(deployment.player()) && p.isOnline()) p.teleport(deployment.spawn());
+            land(deployment);
+        }
+
+        this.phase = GamePhase.GRACE_PERIOD;
+        giveStartingItems();
+
+        // Announce start
+        for (GamePlayer gp : players) {
+            Player p = gp.getPlayer();
+            p.showTitle(Title.title(
+                    plugin.getMessageManager().get(MessageKey.GAME_STARTED_TITLE),
+                    plugin.getMessageManager().get(MessageKey.GAME_STARTED_SUBTITLE),
+                    Title.Times.times(
+                            Duration.ofMillis(500),
+                            Duration.ofMillis(2000),
+                            Duration.ofMillis(500)
+                    )
+            ));
+            p.playSound(p.getLocation(), Sound.ENTITY_ENDER_DRAGON_GROWL, 1.0f, 1.0f);
+        }
+
+        broadcastMessage(plugin.getMessageManager().render(MessageKey.GAME_GRACE_PERIOD,
+                plugin.getConfigManager().getGracePeriod()));
+
+        startGracePeriod();
+
+        // Win checks are skipped while deploying, catch up on players who left meanwhile
+        checkWinCondition();
+    }
+
     /**
      * Give starting items to players
      */
@@ -226,42 +449,48 @@ public class Game {
      */
     private void startGracePeriod() {
         int gracePeriod = plugin.getConfigManager().getGracePeriod();
+        graceEndTick = plugin.getGameTicker().getCurrentTick() + gracePeriod * 20L;
+    }
 
-        gracePeriodTask = plugin.getServer().getScheduler().runTaskLater(plugin, () -> {
-            phase = GamePhase.ACTIVE_COMBAT;
-            broadcastMessage(Component.text("Grace period ended! PvP is now enabled!")
-                    .color(NamedTextColor.RED));
+    /**
+     * End the grace period and start the zone
+     */
+    private void endGracePeriod() {
+        phase = GamePhase.ACTIVE_COMBAT;
+        broadcastMessage(plugin.getMessageManager().get(MessageKey.GAME_GRACE_END));
 
-            zone.startShrinking();
-        }, gracePeriod * 20L);
+        zone.start();
     }
 
     /**
      * Handle player elimination
      */
     public void eliminatePlayer(GamePlayer gamePlayer, GamePlayer killer) {
-        alivePlayers.remove(gamePlayer);
+        if (!alivePlayers.remove(gamePlayer)) return;
         spectators.add(gamePlayer);
 
+        gamePlayer.addDeath();
+        gamePlayer.setPlacement(alivePlayers.size() + 1);
+        gamePlayer.setSurvivalTime(System.currentTimeMillis() - startTime);
+
         Player p = gamePlayer.getPlayer();
         p.setGameMode(org.bukkit.GameMode.SPECTATOR);
 
         // Update kill count
         if (killer != null) {
-            killCounts.merge(killer.getUuid(), 1, Integer::sum);
-
-            broadcastMessage(Component.text(p.getName())
-                    .color(NamedTextColor.RED)
-                    .append(Component.text(" was eliminated by "))
-                    .append(Component.text(killer.getPlayer().getName())
-                            .color(NamedTextColor.GOLD))
-                    .append(Component.text("! "))
-                    .append(Component.text("(" + alivePlayers.size() + " remaining)")
-                            .color(NamedTextColor.GRAY)));
+            int kills = ranking.addKill(killer.getUuid());
+            killer.addCoins(plugin.getConfigManager().getMainConfig().getInt("rewards.kill-coins", 10));
+
+            // Progression picks the kill up on the event worker
+            int totalKills = plugin.getPlayerDataManager().getPlayerData(killer.getUuid()).getStatistics().getKills()
+                    + kills;
+            plugin.getEventBus().post(new KillEvent(killer.getUuid(), gamePlayer.getUuid(), kills, totalKills));
+
+            killFeed.add(plugin.getMessageManager().render(MessageKey.GAME_ELIMINATED_BY,
+                    p.getName(), killer.getPlayer().getName(), alivePlayers.size()));
         } else {
-            broadcastMessage(Component.text(p.getName() + " was eliminated! " +
-                            "(" + alivePlayers.size() + " remaining)")
-                    .color(NamedTextColor.RED));
+            killFeed.add(plugin.getMessageManager().render(MessageKey.GAME_ELIMINATED,
+                    p.getName(), alivePlayers.size()));
         }
 
         checkWinCondition();
@@ -271,6 +500,8 @@ public class Game {
      * Check if game should end
      */
     private void checkWinCondition() {
+        if (phase == GamePhase.DEPLOYING) return;
+
         if (mode == dev.oumaimaa.plugin.constant.GameMode.BATTLE_ROYALE) {
             if (alivePlayers.size() <= 1) {
                 end();
@@ -295,12 +526,15 @@ public class Game {
         this.state = GameState.ENDING;
         this.endTime = System.currentTimeMillis();
 
-        if (countdownTask != null) countdownTask.cancel();
-        if (gracePeriodTask != null) gracePeriodTask.cancel();
+        // Final eliminations go out before the results
+        flushKillFeed();
+        flushCombatProgress();
+
         if (zone != null) zone.stopShrinking();
 
         // Determine winners
         List<GamePlayer> winners = determineWinners();
+        recordResults();
 
         // Announce results
         announceWinners(winners);
@@ -308,8 +542,11 @@ public class Game {
         // Give rewards
         distributeRewards(winners);
 
+        // Commit match statistics and run end-of-game progression
+        plugin.getListenerManager().getGameListener().onGameEnd(this);
+
         // Cleanup after delay
-        plugin.getServer().getScheduler().runTaskLater(plugin, this::cleanup, 100L);
+        this.cleanupTick = plugin.getGameTicker().getCurrentTick() + 100L;
     }
 
     /**
@@ -318,8 +555,6 @@ public class Game {
     public void forceEnd() {
         this.state = GameState.ENDED;
 
-        if (countdownTask != null) countdownTask.cancel();
-        if (gracePeriodTask != null) gracePeriodTask.cancel();
         if (zone != null) zone.stopShrinking();
 
         cleanup();
@@ -334,15 +569,51 @@ public class Game {
             return new ArrayList<>(alivePlayers);
         } else {
             // Top 3 by kills
-            return killCounts.entrySet().stream()
-                    .sorted(Map.Entry.<UUID, Integer>comparingByValue().reversed())
-                    .limit(3)
-                    .map(entry -> players.stream()
-                            .filter(gp -> gp.getUuid().equals(entry.getKey()))
-                            .findFirst()
-                            .orElse(null))
-                    .filter(Objects::nonNull)
-                    .collect(Collectors.toList());
+            return ranking.top(3);
+        }
+    }
+
+    /**
+     * Post damage recorded since the last flush as progression events
+     */
+    private void flushCombatProgress() {
+        for (GamePlayer gp : players) {
+            if (!gp.isCombatDirty()) continue;
+
+            PlayerStatistics stats = plugin.getPlayerDataManager().getPlayerData(gp.getUuid()).getStatistics();
+            int dealt = gp.drainDamageDealt();
+            int taken = gp.drainDamageTaken();
+
+            if (dealt > 0 || taken > 0) {
+                plugin.getEventBus().post(new DamageEvent(gp.getUuid(), dealt, taken,
+                        (int) (stats.getDamageDealt() + gp.getDamageDealt()),
+                        (int) (stats.getDamageTaken() + gp.getDamageTaken())));
+            }
+        }
+    }
+
+    /**
+     * Fill in placement and survival time for players still alive
+     */
+    private void recordResults() {
+        long survived = endTime - startTime;
+
+        if (mode == dev.oumaimaa.plugin.constant.GameMode.RESURGENCE) {
+            // Walk the tie-broken order so every placement, and first place in particular, is unique
+            List<GamePlayer> order = ranking.top(ranking.size());
+            for (int i = 0; i < order.size(); i++) {
+                order.get(i).setPlacement(i + 1);
+            }
+        }
+
+        for (GamePlayer gp : players) {
+            if (mode == dev.oumaimaa.plugin.constant.GameMode.BATTLE_ROYALE && alivePlayers.contains(gp)) {
+                gp.setPlacement(1);
+            }
+
+            if (alivePlayers.contains(gp)) {
+                gp.setSurvivalTime(survived);
+            }
         }
     }
 
@@ -351,20 +622,18 @@ public class Game {
      */
     private void announceWinners(@NotNull List<GamePlayer> winners) {
         if (winners.isEmpty()) {
-            broadcastMessage(Component.text("No winners this round!")
-                    .color(NamedTextColor.YELLOW));
+            broadcastMessage(plugin.getMessageManager().get(MessageKey.GAME_NO_WINNERS));
             return;
         }
 
-        Component winnerMsg = plugin.getMiniMessage().deserialize(
-                "<gradient:#ffd700:#ffed4e>🏆 VICTORY ROYALE! 🏆</gradient>"
-        );
+        Component winnerMsg = plugin.getMessageManager().get(MessageKey.GAME_VICTORY);
+        Component winnerSubtitle = plugin.getMessageManager().get(MessageKey.GAME_VICTORY_SUBTITLE);
 
         for (GamePlayer winner : winners) {
             Player p = winner.getPlayer();
             p.showTitle(Title.title(
                     winnerMsg,
-                    Component.text("You won!").color(NamedTextColor.GOLD),
+                    winnerSubtitle,
                     Title.Times.times(
                             Duration.ofMillis(500),
                             Duration.ofMillis(3000),
@@ -377,19 +646,17 @@ public class Game {
         // Broadcast to all
         if (mode == dev.oumaimaa.plugin.constant.GameMode.BATTLE_ROYALE) {
             GamePlayer winner = winners.getFirst();
-            int kills = killCounts.getOrDefault(winner.getUuid(), 0);
+            int kills = ranking.getKills(winner.getUuid());
 
-            broadcastMessage(Component.text(winner.getPlayer().getName())
-                    .color(NamedTextColor.GOLD)
-                    .append(Component.text(" won the Battle Royale with " + kills + " kills!"))
-                    .color(NamedTextColor.YELLOW));
+            broadcastMessage(plugin.getMessageManager().render(MessageKey.GAME_VICTORY_MESSAGE,
+                    winner.getPlayer().getName(), kills));
         } else {
-            broadcastMessage(Component.text("Top 3 Players:").color(NamedTextColor.GOLD));
+            broadcastMessage(plugin.getMessageManager().get(MessageKey.GAME_TOP_PLAYERS));
             for (int i = 0; i < winners.size(); i++) {
                 GamePlayer gp = winners.get(i);
-                int kills = killCounts.getOrDefault(gp.getUuid(), 0);
-                broadcastMessage(Component.text((i + 1) + ". " + gp.getPlayer().getName() +
-                        " - " + kills + " kills").color(NamedTextColor.YELLOW));
+                int kills = ranking.getKills(gp.getUuid());
+                broadcastMessage(plugin.getMessageManager().render(MessageKey.GAME_TOP_PLAYER_LINE,
+                        i + 1, gp.getPlayer().getName(), kills));
             }
         }
     }
@@ -405,8 +672,7 @@ public class Game {
         // TODO: Implement reward distribution via Vault/Economy
         // For now, just send a message
         for (GamePlayer winner : winners) {
-            winner.getPlayer().sendMessage(Component.text("You earned rewards!")
-                    .color(NamedTextColor.GREEN));
+            winner.getPlayer().sendMessage(plugin.getMessageManager().get(MessageKey.GAME_REWARDS_EARNED));
         }
     }
 
@@ -433,7 +699,20 @@ public class Game {
         players.clear();
         alivePlayers.clear();
         spectators.clear();
-        killCounts.clear();
+        ranking.clear();
+        killFeed.clear();
+
+        // Restore the arena, then let its chunks unload again
+        ArenaWarmup heldChunks = warmup;
+        Runnable releaseChunks = () -> {
+            if (heldChunks != null) heldChunks.release();
+        };
+        if (journal != null) {
+            plugin.getArenaManager().closeJournal(arena.getWorld(), releaseChunks);
+            journal = null;
+        } else {
+            releaseChunks.run();
+        }
 
         // Notify game manager
         plugin.getGameManager().endGame(this);
@@ -443,9 +722,29 @@ public class Game {
      * Broadcast message to all players in game
      */
     public void broadcastMessage(Component message) {
-        for (GamePlayer gp : players) {
-            gp.getPlayer().sendMessage(message);
-        }
+        sendMessage(message);
+    }
+
+    /**
+     * Send the kill-feed lines collected since the last tick as one message
+     */
+    private void flushKillFeed() {
+        if (killFeed.isEmpty()) return;
+
+        Component feed = killFeed.size() == 1
+                ? killFeed.getFirst()
+                : Component.join(JoinConfiguration.newlines(), killFeed);
+        killFeed.clear();
+
+        sendMessage(feed);
+    }
+
+    /**
+     * Every participant, including spectators
+     */
+    @Override
+    public @NotNull Iterable<? extends Audience> audiences() {
+        return () -> players.stream().<Audience>map(GamePlayer::getPlayer).iterator();
     }
 
     public UUID getId() {
@@ -485,10 +784,62 @@ public class Game {
     }
 
     public int getKills(UUID playerId) {
-        return killCounts.getOrDefault(playerId, 0);
+        return ranking.getKills(playerId);
+    }
+
+    public KillRanking getRanking() {
+        return ranking;
+    }
+
+    /**
+     * Get a participant by UUID, or null if they aren't in this game
+     */
+    public GamePlayer getGamePlayer(UUID playerId) {
+        return ranking.getPlayer(playerId);
+    }
+
+    public int getTickOffset() {
+        return tickOffset;
+    }
+
+    public void setTickOffset(int tickOffset) {
+        this.tickOffset = tickOffset;
     }
 
     public long getStartTime() {
         return startTime;
     }
+
+    /**
+     * Get the match duration in milliseconds
+     */
+    public long getDuration() {
+        return (endTime > 0 ? endTime : System.currentTimeMillis()) - startTime;
+    }
+
+    public ArenaWarmup getWarmup() {
+        return warmup;
+    }
+
+    /**
+     * A player waiting to be teleported to their spawn
+     */
+    private static final class Deployment {
+        private final GamePlayer player;
+        private final Location spawn;
+        private boolean pending;
+
+        private Deployment(GamePlayer player, Location spawn) {
+            this.player = player;
+            this.spawn = spawn;
+        }
+
+        private GamePlayer player() {
+            return player;
+        }
+
+        private Location spawn() {
+            return spawn;
+        }
+    }
 }
\ No newline at end of file
@@ -4,49 +4,128 @@ import dev.oumaimaa.plugin.constant.PlayerState;
 import org.bukkit.entity.Player;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.HashSet;
+import java.util.Set;
 import java.util.UUID;
 
 /**
- * Represents a player in an active game
+ * Represents a player in an active game.
+ * <p>
+ * Holds the statistics of the current match only; they are committed to
+ * the player's persistent data once when the game ends.
  */
 public class GamePlayer {
 
     private final UUID uuid;
     private final String name;
     private final Player player;
+    private final Set<Long> openedChests;
     private PlayerState state;
     private int kills;
     private int deaths;
     private long survivalTime;
     private double damageDealt;
     private double damageTaken;
+    private int currentStreak;
+    private int longestStreak;
+    private int placement;
+    private int coinsEarned;
+    private double pendingDamageDealt;
+    private double pendingDamageTaken;
+    private boolean combatDirty;
 
     public GamePlayer(@NotNull Player player) {
         this.uuid = player.getUniqueId();
         this.name = player.getName();
         this.player = player;
+        this.openedChests = new HashSet<>();
+        reset();
+    }
+
+    /**
+     * Clear match statistics before joining a new game
+     */
+    public void reset() {
         this.state = PlayerState.ALIVE;
         this.kills = 0;
         this.deaths = 0;
         this.survivalTime = 0;
         this.damageDealt = 0;
         this.damageTaken = 0;
-    }
-
-    public void addKill() {
+        this.currentStreak = 0;
+        this.longestStreak = 0;
+        this.placement = 0;
+        this.coinsEarned = 0;
+        this.pendingDamageDealt = 0;
+        this.pendingDamageTaken = 0;
+        this.combatDirty = false;
+        this.openedChests.clear();
+    }
+
+    /**
+     * Count a kill, called by the game's {@link KillRanking} only
+     */
+    void addKill() {
         this.kills++;
+        this.currentStreak++;
+        if (currentStreak > longestStreak) {
+            this.longestStreak = currentStreak;
+        }
     }
 
     public void addDeath() {
         this.deaths++;
+        this.currentStreak = 0;
+    }
+
+    /**
+     * Record a chest opening, returning false if this chest was already opened
+     */
+    public boolean addChestOpened(long position) {
+        return openedChests.add(position);
+    }
+
+    public void addCoins(int amount) {
+        this.coinsEarned += amount;
     }
 
     public void addDamageDealt(double amount) {
         this.damageDealt += amount;
+        this.pendingDamageDealt += amount;
+        this.combatDirty = true;
     }
 
     public void addDamageTaken(double amount) {
         this.damageTaken += amount;
+        this.pendingDamageTaken += amount;
+        this.combatDirty = true;
+    }
+
+    /**
+     * Check if damage was recorded since the last drain
+     */
+    public boolean isCombatDirty() {
+        return combatDirty;
+    }
+
+    /**
+     * Take the whole points of damage dealt since the last drain, keeping the fraction
+     */
+    public int drainDamageDealt() {
+        int whole = (int) pendingDamageDealt;
+        pendingDamageDealt -= whole;
+        combatDirty = false;
+        return whole;
+    }
+
+    /**
+     * Take the whole points of damage taken since the last drain, keeping the fraction
+     */
+    public int drainDamageTaken() {
+        int whole = (int) pendingDamageTaken;
+        pendingDamageTaken -= whole;
+        combatDirty = false;
+        return whole;
     }
 
     public UUID getUuid() {
@@ -93,6 +172,33 @@ public class GamePlayer {
         return damageTaken;
     }
 
+    public int getCurrentStreak() {
+        return currentStreak;
+    }
+
+    public int getLongestStreak() {
+        return longestStreak;
+    }
+
+    /**
+     * Get the final placement (1 is the winner), or 0 if not decided yet
+     */
+    public int getPlacement() {
+        return placement;
+    }
+
+    public void setPlacement(int placement) {
+        this.placement = placement;
+    }
+
+    public int getCoinsEarned() {
+        return coinsEarned;
+    }
+
+    public int getChestsOpened() {
+        return openedChests.size();
+    }
+
     @Override
     public boolean equals(Object obj) {
         if (this == obj) return true;
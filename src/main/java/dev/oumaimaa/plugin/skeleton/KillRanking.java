@@ -0,0 +1,188 @@
+package dev.oumaimaa.plugin.skeleton;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Live kill ranking for a single game.
+ * <p>
+ * Players are kept in a tree ordered by kills (ties go to whoever reached
+ * the count first) and a Fenwick tree counts players per kill total, so a
+ * kill, a rank lookup and the top-K are all O(log n) or O(K) with no sorting.
+ * Kills are only counted here, which also updates the game player's own
+ * counter. Mutations happen on the main thread; kill lookups are safe from any thread.
+ */
+public class KillRanking {
+
+    private static final Comparator<Entry> ORDER = Comparator
+            .comparingInt((Entry entry) -> entry.kills).reversed()
+            .thenComparingLong(entry -> entry.reachedAt);
+
+    private final Map<UUID, Entry> entries;
+    private final TreeSet<Entry> ranking;
+    private int[] counts;
+    private long sequence;
+
+    public KillRanking() {
+        this.entries = new ConcurrentHashMap<>();
+        this.ranking = new TreeSet<>(ORDER);
+        this.counts = new int[17];
+    }
+
+    /**
+     * Start tracking a player with no kills
+     */
+    public void add(@NotNull GamePlayer player) {
+        if (entries.containsKey(player.getUuid())) return;
+
+        Entry entry = new Entry(player, sequence++);
+        entries.put(player.getUuid(), entry);
+        ranking.add(entry);
+        update(0, 1);
+    }
+
+    /**
+     * Stop tracking a player
+     */
+    public void remove(@NotNull UUID playerId) {
+        Entry entry = entries.remove(playerId);
+        if (entry == null) return;
+
+        ranking.remove(entry);
+        update(entry.kills, -1);
+    }
+
+    /**
+     * Add a kill for a player, returning their new kill count
+     */
+    public int addKill(@NotNull UUID playerId) {
+        Entry entry = entries.get(playerId);
+        if (entry == null) return 0;
+
+        entry.player.addKill();
+
+        ensureCapacity(entry.kills + 1);
+        ranking.remove(entry);
+        update(entry.kills, -1);
+
+        entry.kills++;
+        entry.reachedAt = sequence++;
+
+        update(entry.kills, 1);
+        ranking.add(entry);
+        return entry.kills;
+    }
+
+    /**
+     * Get a player's kills
+     */
+    public int getKills(@NotNull UUID playerId) {
+        Entry entry = entries.get(playerId);
+        return entry != null ? entry.kills : 0;
+    }
+
+    /**
+     * Get a player's rank (1 is best, players with equal kills share a rank), or 0 if not tracked
+     */
+    public int getRank(@NotNull UUID playerId) {
+        Entry entry = entries.get(playerId);
+        if (entry == null) return 0;
+        return 1 + countAbove(entry.kills);
+    }
+
+    /**
+     * Get the top players, best first
+     */
+    public List<GamePlayer> top(int limit) {
+        List<GamePlayer> top = new ArrayList<>(Math.min(limit, ranking.size()));
+        Iterator<Entry> iterator = ranking.iterator();
+        while (top.size() < limit && iterator.hasNext()) {
+            top.add(iterator.next().player);
+        }
+        return top;
+    }
+
+    /**
+     * Get the leading player, or null if nobody is tracked
+     */
+    public GamePlayer getLeader() {
+        return ranking.isEmpty() ? null : ranking.first().player;
+    }
+
+    /**
+     * Get the tracked game player for a UUID
+     */
+    public GamePlayer getPlayer(@NotNull UUID playerId) {
+        Entry entry = entries.get(playerId);
+        return entry != null ? entry.player : null;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public void clear() {
+        entries.clear();
+        ranking.clear();
+        Arrays.fill(counts, 0);
+    }
+
+    /**
+     * Count players with more than the given kills
+     */
+    private int countAbove(int kills) {
+        return prefix(counts.length - 2) - prefix(kills);
+    }
+
+    /**
+     * Count players with at most the given kills
+     */
+    private int prefix(int kills) {
+        int sum = 0;
+        for (int i = kills + 1; i > 0; i -= i & -i) {
+            sum += counts[i];
+        }
+        return sum;
+    }
+
+    private void update(int kills, int delta) {
+        for (int i = kills + 1; i < counts.length; i += i & -i) {
+            counts[i] += delta;
+        }
+    }
+
+    /**
+     * Grow the Fenwick tree so it can index the given kill count
+     */
+    private void ensureCapacity(int kills) {
+        if (kills + 1 < counts.length) return;
+
+        int size = counts.length - 1;
+        while (kills + 1 > size) size *= 2;
+
+        counts = new int[size + 1];
+        for (Entry entry : entries.values()) {
+            update(entry.kills, 1);
+        }
+    }
+
+    private static final class Entry {
+        private final GamePlayer player;
+        private volatile int kills;
+        private long reachedAt;
+
+        private Entry(GamePlayer player, long reachedAt) {
+            this.player = player;
+            this.reachedAt = reachedAt;
+        }
+    }
+}
\ No newline at end of file
@@ -1,239 +1,227 @@
 package dev.oumaimaa.plugin.skeleton;
 
 import dev.oumaimaa.Main;
-import dev.oumaimaa.plugin.task.ZoneShrinkTask;
-import net.kyori.adventure.text.Component;
-import net.kyori.adventure.text.format.NamedTextColor;
-import org.bukkit.*;
+import dev.oumaimaa.plugin.config.MessageKey;
+import org.bukkit.Location;
+import org.bukkit.Sound;
+import org.bukkit.World;
 import org.bukkit.entity.Player;
-import org.bukkit.scheduler.BukkitTask;
 import org.jetbrains.annotations.NotNull;
 
 /**
- * Represents a shrinking zone for a game
+ * Represents a shrinking zone for a game.
+ * <p>
+ * The zone holds no tasks of its own; it is evaluated by the
+ * {@link dev.oumaimaa.plugin.manager.ZoneManager} engine and its radius,
+ * damage and shrink times are read from a precompiled {@link ZoneTimeline}.
  */
 public class Zone {
 
     private final Main plugin;
     private final Game game;
+    private final ZoneTimeline timeline;
     private final Location center;
-    private double currentRadius;
-    private double targetRadius;
+    private final World world;
+    private final double centerX;
+    private final double centerZ;
+    private double radiusSquared;
     private boolean shrinking;
     private int shrinkStage;
-    private BukkitTask shrinkTask;
-    private BukkitTask damageTask;
-    private BukkitTask particleTask;
+    private int segmentVersion;
+    private long startTick;
 
     public Zone(@NotNull Main plugin, @NotNull Game game) {
         this.plugin = plugin;
         this.game = game;
+        this.timeline = plugin.getZoneManager().getTimeline(game.getArena());
         this.shrinking = false;
         this.shrinkStage = 0;
-        this.currentRadius = plugin.getConfigManager().getInitialZoneSize();
+        this.startTick = -1;
         this.center = game.getArena().getCenter();
-        this.targetRadius = currentRadius;
+        this.world = center != null ? center.getWorld() : null;
+        this.centerX = center != null ? center.getX() : 0;
+        this.centerZ = center != null ? center.getZ() : 0;
 
-        startDamageTask();
+        double initialRadius = timeline.getInitialRadius();
+        this.radiusSquared = initialRadius * initialRadius;
 
-        if (plugin.getConfigManager().getMainConfig().getBoolean("zone.show-particles", true)) {
-            startParticleTask();
-        }
+        plugin.getZoneManager().register(this);
     }
 
     /**
-     * Start shrinking the zone
+     * Start the zone timeline
      */
-    public void startShrinking() {
-        if (shrinking) return;
-
-        shrinking = true;
-        shrinkStage++;
-
-        // Calculate new target
-        targetRadius = calculateNextRadius();
-
-        // Announce
-        game.broadcastMessage(Component.text("⚠ The zone is shrinking!")
-                .color(NamedTextColor.YELLOW));
-
-        // Play sound
-        for (GamePlayer gp : game.getAllPlayers()) {
-            gp.getPlayer().playSound(gp.getPlayer().getLocation(),
-                    Sound.BLOCK_BEACON_ACTIVATE, 1.0f, 0.8f);
-        }
-
-        shrinkTask = new ZoneShrinkTask(this).runTaskTimer(plugin, 0L, 20L);
+    public void start() {
+        if (startTick >= 0) return;
+        startTick = plugin.getZoneManager().getCurrentTick();
+        update(startTick);
     }
 
     /**
-     * Stop shrinking
+     * Stop the zone and detach from the zone engine
      */
     public void stopShrinking() {
-        if (shrinkTask != null) {
-            shrinkTask.cancel();
-            shrinkTask = null;
-        }
-        if (damageTask != null) {
-            damageTask.cancel();
-            damageTask = null;
-        }
-        if (particleTask != null) {
-            particleTask.cancel();
-            particleTask = null;
-        }
+        plugin.getZoneManager().unregister(this);
         shrinking = false;
     }
 
     /**
-     * Update zone radius (called by shrink task)
+     * Advance zone state to the given engine tick (called by the zone engine)
      */
-    public void updateRadius(double newRadius) {
-        this.currentRadius = newRadius;
+    public void update(long tick) {
+        if (startTick < 0) return;
+
+        long elapsed = tick - startTick;
+        boolean nowShrinking = timeline.isShrinkingAt(elapsed);
 
-        if (currentRadius <= targetRadius) {
-            stopCurrentShrink();
-            scheduleNextShrink();
+        if (nowShrinking || shrinking) {
+            double radius = timeline.radiusAt(elapsed);
+            radiusSquared = radius * radius;
         }
+
+        int stage = timeline.stageAt(elapsed);
+        if (stage != shrinkStage) {
+            shrinkStage = stage;
+            segmentVersion++;
+            announceShrink();
+        }
+
+        if (shrinking && !nowShrinking) {
+            game.broadcastMessage(plugin.getMessageManager().get(MessageKey.ZONE_SHRINK_STOPPED));
+        }
+        shrinking = nowShrinking;
     }
 
     /**
-     * Stop current shrink phase
+     * Announce the start of a shrink stage
      */
-    private void stopCurrentShrink() {
-        if (shrinkTask != null) {
-            shrinkTask.cancel();
-            shrinkTask = null;
-        }
-        shrinking = false;
+    private void announceShrink() {
+        game.broadcastMessage(plugin.getMessageManager().get(MessageKey.ZONE_SHRINKING));
 
-        game.broadcastMessage(Component.text("Zone has stopped shrinking!")
-                .color(NamedTextColor.GREEN));
+        for (GamePlayer gp : game.getAllPlayers()) {
+            gp.getPlayer().playSound(gp.getPlayer().getLocation(),
+                    Sound.BLOCK_BEACON_ACTIVATE, 1.0f, 0.8f);
+        }
     }
 
     /**
-     * Schedule next shrink phase
+     * Get the radius at a (possibly fractional) engine tick
      */
-    private void scheduleNextShrink() {
-        int interval = plugin.getConfigManager().getZoneShrinkInterval();
-        double finalSize = plugin.getConfigManager().getFinalZoneSize();
+    public double radiusAt(double tick) {
+        if (startTick < 0) return timeline.getInitialRadius();
+        return timeline.radiusAt(tick - startTick);
+    }
 
-        if (currentRadius > finalSize) {
-            plugin.getServer().getScheduler().runTaskLater(plugin,
-                    this::startShrinking, interval * 20L);
-        }
+    /**
+     * Get ticks elapsed since the timeline started, or -1 if it hasn't
+     */
+    public long getElapsedTicks() {
+        return startTick < 0 ? -1 : plugin.getZoneManager().getCurrentTick() - startTick;
     }
 
     /**
-     * Calculate next radius
+     * Get ticks until the next shrink starts, or -1 if none is scheduled
      */
-    private double calculateNextRadius() {
-        double finalSize = plugin.getConfigManager().getFinalZoneSize();
-        double shrinkFactor = 0.6; // 60% of current size each stage
+    public long getTicksUntilNextShrink() {
+        long elapsed = getElapsedTicks();
+        if (elapsed < 0) return -1;
 
-        return Math.max(currentRadius * shrinkFactor, finalSize);
+        long next = timeline.nextShrinkAt(elapsed);
+        return next < 0 ? -1 : next - elapsed;
     }
 
     /**
      * Check if location is outside zone
      */
-    public boolean isOutsideZone(Location location) {
-        if (center == null || location.getWorld() != center.getWorld()) {
+    public boolean isOutsideZone(@NotNull Location location) {
+        if (world == null || location.getWorld() != world) {
             return false;
         }
-        return location.distance(center) > currentRadius;
+        return isOutside(location.getX(), location.getZ());
     }
 
     /**
-     * Start damage task for players outside zone
+     * Check if horizontal coordinates are outside zone
      */
-    private void startDamageTask() {
-        int damageInterval = plugin.getConfigManager().getMainConfig()
-                .getInt("zone.damage-interval", 20);
-
-        damageTask = plugin.getServer().getScheduler().runTaskTimer(plugin, () -> {
-            for (GamePlayer gp : game.getAlivePlayers()) {
-                Player player = gp.getPlayer();
-                if (isOutsideZone(player.getLocation())) {
-                    damagePlayer(player);
-                }
-            }
-        }, 0L, damageInterval);
+    public boolean isOutside(double x, double z) {
+        double dx = x - centerX;
+        double dz = z - centerZ;
+        return dx * dx + dz * dz > radiusSquared;
     }
 
     /**
      * Damage player outside zone
      */
     public void damagePlayer(@NotNull Player player) {
-        int damage = plugin.getConfigManager().getZoneDamage();
-        player.damage(damage);
+        long elapsed = getElapsedTicks();
+        player.damage(timeline.damageAt(Math.max(0, elapsed)));
 
         // Send warning
-        Component warning = plugin.getMiniMessage().deserialize(
-                "<gradient:#ff0000:#ff6666>⚠ You're outside the safe zone! Taking damage!</gradient>"
-        );
-        player.sendActionBar(warning);
+        player.sendActionBar(plugin.getMessageManager().get(MessageKey.ZONE_DAMAGE));
 
         // Play warning sound
         player.playSound(player.getLocation(), Sound.BLOCK_FIRE_AMBIENT, 0.5f, 1.0f);
     }
 
-    /**
-     * Start particle border display
-     */
-    private void startParticleTask() {
-        int density = plugin.getConfigManager().getMainConfig()
-                .getInt("zone.particle-density", 5);
-
-        particleTask = plugin.getServer().getScheduler().runTaskTimer(plugin, () -> {
-            if (center == null || center.getWorld() == null) return;
-
-            World world = center.getWorld();
-            double radius = currentRadius;
-
-            for (double angle = 0; angle < 360; angle += density) {
-                double radians = Math.toRadians(angle);
-                double x = center.getX() + radius * Math.cos(radians);
-                double z = center.getZ() + radius * Math.sin(radians);
-
-                Location particleLoc = new Location(world, x, center.getY() + 1, z);
-
-                world.spawnParticle(
-                        Particle.DUST,
-                        particleLoc,
-                        1,
-                        new Particle.DustOptions(Color.RED, 1.0f)
-                );
-            }
-        }, 0L, 10L);
-    }
-
     /**
      * Get distance from center
      */
-    public double getDistanceFromCenter(Location location) {
+    public double getDistanceFromCenter(@NotNull Location location) {
         if (center == null) return 0;
-        return location.distance(center);
+        double dx = location.getX() - centerX;
+        double dz = location.getZ() - centerZ;
+        return Math.sqrt(dx * dx + dz * dz);
     }
 
     /**
      * Get distance from zone edge
      */
-    public double getDistanceFromEdge(Location location) {
+    public double getDistanceFromEdge(@NotNull Location location) {
         double distanceFromCenter = getDistanceFromCenter(location);
-        return currentRadius - distanceFromCenter;
+        return getCurrentRadius() - distanceFromCenter;
+    }
+
+    public Game getGame() {
+        return game;
+    }
+
+    public ZoneTimeline getTimeline() {
+        return timeline;
     }
 
     public Location getCenter() {
         return center;
     }
 
+    public World getWorld() {
+        return world;
+    }
+
+    public double getCenterX() {
+        return centerX;
+    }
+
+    public double getCenterZ() {
+        return centerZ;
+    }
+
     public double getCurrentRadius() {
-        return currentRadius;
+        return radiusAt(plugin.getZoneManager().getPreciseTick());
     }
 
     public double getTargetRadius() {
-        return targetRadius;
+        long elapsed = getElapsedTicks();
+        return elapsed < 0 ? timeline.getInitialRadius() : timeline.targetRadiusAt(elapsed);
+    }
+
+    public long getSegmentStartTick() {
+        long elapsed = getElapsedTicks();
+        return elapsed < 0 ? 0 : startTick + timeline.shrinkStartAt(elapsed);
+    }
+
+    public long getSegmentEndTick() {
+        long elapsed = getElapsedTicks();
+        return elapsed < 0 ? 0 : startTick + timeline.shrinkEndAt(elapsed);
     }
 
     public boolean isShrinking() {
@@ -243,4 +231,15 @@ public class Zone {
     public int getShrinkStage() {
         return shrinkStage;
     }
+
+    /**
+     * Get a counter that changes whenever a new shrink segment starts
+     */
+    public int getSegmentVersion() {
+        return segmentVersion;
+    }
+
+    public long getStartTick() {
+        return startTick;
+    }
 }
@@ -0,0 +1,256 @@
+package dev.oumaimaa.plugin.skeleton;
+
+import dev.oumaimaa.plugin.config.ConfigManager;
+import dev.oumaimaa.plugin.constant.ZoneShrinkAlgorithm;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.file.FileConfiguration;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Immutable zone schedule compiled from zones.yml.
+ * <p>
+ * Every stage holds the previous radius for the shrink interval and then
+ * shrinks to its target radius over its duration. The first stage starts
+ * shrinking as soon as the timeline starts. All times are in ticks relative
+ * to the timeline start and every query is a binary search over the stages.
+ */
+public final class ZoneTimeline {
+
+    private final ZoneShrinkAlgorithm algorithm;
+    private final double initialRadius;
+    private final int baseDamage;
+    private final long[] shrinkStart;
+    private final long[] shrinkEnd;
+    private final double[] fromRadius;
+    private final double[] toRadius;
+    private final int[] damage;
+
+    private ZoneTimeline(ZoneShrinkAlgorithm algorithm, double initialRadius, int baseDamage,
+                         long[] shrinkStart, long[] shrinkEnd,
+                         double[] fromRadius, double[] toRadius, int[] damage) {
+        this.algorithm = algorithm;
+        this.initialRadius = initialRadius;
+        this.baseDamage = baseDamage;
+        this.shrinkStart = shrinkStart;
+        this.shrinkEnd = shrinkEnd;
+        this.fromRadius = fromRadius;
+        this.toRadius = toRadius;
+        this.damage = damage;
+    }
+
+    /**
+     * Compile the timeline for an arena, applying its overrides if present
+     */
+    public static @NotNull ZoneTimeline compile(@NotNull ConfigManager configManager, String arenaName) {
+        FileConfiguration zones = configManager.getZonesConfig();
+        ConfigurationSection defaults = zones.getConfigurationSection("default");
+        ConfigurationSection override = arenaName != null
+                ? zones.getConfigurationSection("arena-overrides." + arenaName)
+                : null;
+
+        // Defaults fall back to the zone section of config.yml
+        double defaultInitial = getDouble(defaults, null, "initial-radius", configManager.getInitialZoneSize());
+        double defaultFinal = getDouble(defaults, null, "final-radius", configManager.getFinalZoneSize());
+
+        double initial = getDouble(override, defaults, "initial-radius", defaultInitial);
+        double finalRadius = Math.min(initial, getDouble(override, defaults, "final-radius", defaultFinal));
+        long interval = getInt(override, defaults, "shrink-interval", configManager.getZoneShrinkInterval()) * 20L;
+        int duration = getInt(override, defaults, "shrink-duration", configManager.getZoneShrinkDuration());
+        int stageCount = Math.max(1, getInt(override, defaults, "shrink-stages", 8));
+        int baseDamage = getInt(override, defaults, "damage-per-tick", configManager.getZoneDamage());
+
+        ZoneShrinkAlgorithm algorithm = parseAlgorithm(zones.getString("shrink-algorithm", "LINEAR"));
+
+        List<int[]> timings = new ArrayList<>();
+        List<Double> targets = new ArrayList<>();
+
+        ConfigurationSection stages = zones.getConfigurationSection("stages");
+        if (stages != null && !stages.getKeys(false).isEmpty()) {
+            // Configured target radii are authored for the default radii, rescale them for overrides
+            double span = defaultInitial - defaultFinal;
+            double scale = span > 0 ? (initial - finalRadius) / span : 1.0;
+
+            List<String> keys = new ArrayList<>(stages.getKeys(false));
+            keys.sort((a, b) -> Integer.compare(parseStage(a), parseStage(b)));
+
+            for (String key : keys) {
+                ConfigurationSection stage = stages.getConfigurationSection(key);
+                if (stage == null) continue;
+
+                double target = stage.getDouble("target-radius", finalRadius);
+                targets.add(finalRadius + (target - defaultFinal) * scale);
+                timings.add(new int[]{
+                        stage.getInt("duration", duration),
+                        stage.getInt("damage-per-tick", baseDamage)
+                });
+            }
+        } else {
+            for (int i = 1; i <= stageCount; i++) {
+                double progress = (double) i / stageCount;
+                double target = algorithm == ZoneShrinkAlgorithm.EXPONENTIAL && finalRadius > 0
+                        ? initial * Math.pow(finalRadius / initial, progress)
+                        : initial - (initial - finalRadius) * progress;
+
+                targets.add(target);
+                timings.add(new int[]{duration, baseDamage});
+            }
+        }
+
+        int count = targets.size();
+        long[] shrinkStart = new long[count];
+        long[] shrinkEnd = new long[count];
+        double[] fromRadius = new double[count];
+        double[] toRadius = new double[count];
+        int[] damage = new int[count];
+
+        long tick = 0;
+        double radius = initial;
+        for (int i = 0; i < count; i++) {
+            if (i > 0) tick += interval;
+
+            shrinkStart[i] = tick;
+            tick += Math.max(1L, timings.get(i)[0] * 20L);
+            shrinkEnd[i] = tick;
+
+            fromRadius[i] = radius;
+            radius = Math.max(finalRadius, Math.min(radius, targets.get(i)));
+            toRadius[i] = radius;
+            damage[i] = timings.get(i)[1];
+        }
+
+        return new ZoneTimeline(algorithm, initial, baseDamage, shrinkStart, shrinkEnd, fromRadius, toRadius, damage);
+    }
+
+    private static double getDouble(ConfigurationSection primary, ConfigurationSection fallback,
+                                    String path, double def) {
+        if (primary != null && primary.contains(path)) return primary.getDouble(path);
+        if (fallback != null && fallback.contains(path)) return fallback.getDouble(path);
+        return def;
+    }
+
+    private static int getInt(ConfigurationSection primary, ConfigurationSection fallback,
+                              String path, int def) {
+        if (primary != null && primary.contains(path)) return primary.getInt(path);
+        if (fallback != null && fallback.contains(path)) return fallback.getInt(path);
+        return def;
+    }
+
+    private static int parseStage(String key) {
+        try {
+            return Integer.parseInt(key);
+        } catch (NumberFormatException e) {
+            return Integer.MAX_VALUE;
+        }
+    }
+
+    private static ZoneShrinkAlgorithm parseAlgorithm(String name) {
+        try {
+            return ZoneShrinkAlgorithm.valueOf(name.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return ZoneShrinkAlgorithm.LINEAR;
+        }
+    }
+
+    /**
+     * Get the number of stages that have started shrinking by the given tick
+     */
+    public int stageAt(long tick) {
+        if (tick < 0) return 0;
+
+        // Start ticks are strictly increasing, so an exact hit counts as started
+        int index = Arrays.binarySearch(shrinkStart, tick);
+        return index >= 0 ? index + 1 : -index - 1;
+    }
+
+    /**
+     * Get the radius at a (possibly fractional) tick
+     */
+    public double radiusAt(double tick) {
+        int stage = stageAt((long) Math.floor(tick)) - 1;
+        if (stage < 0) return initialRadius;
+        if (tick >= shrinkEnd[stage]) return toRadius[stage];
+
+        double progress = (tick - shrinkStart[stage]) / (shrinkEnd[stage] - shrinkStart[stage]);
+        return fromRadius[stage] + (toRadius[stage] - fromRadius[stage]) * progress;
+    }
+
+    /**
+     * Get the radius the zone is heading towards at the given tick
+     */
+    public double targetRadiusAt(long tick) {
+        int stage = stageAt(tick) - 1;
+        return stage < 0 ? initialRadius : toRadius[stage];
+    }
+
+    /**
+     * Get the damage dealt outside the zone at the given tick
+     */
+    public int damageAt(long tick) {
+        int stage = stageAt(tick) - 1;
+        return stage < 0 ? baseDamage : damage[stage];
+    }
+
+    /**
+     * Check if the zone is shrinking at the given tick
+     */
+    public boolean isShrinkingAt(long tick) {
+        int stage = stageAt(tick) - 1;
+        return stage >= 0 && tick < shrinkEnd[stage];
+    }
+
+    /**
+     * Get the tick the next shrink starts at, or -1 if none is left
+     */
+    public long nextShrinkAt(long tick) {
+        int stage = stageAt(tick);
+        return stage < shrinkStart.length ? shrinkStart[stage] : -1;
+    }
+
+    /**
+     * Get the tick the current hold started at
+     */
+    public long holdStartAt(long tick) {
+        int stage = stageAt(tick) - 1;
+        return stage < 0 ? 0 : shrinkEnd[stage];
+    }
+
+    /**
+     * Get the start tick of the current or last shrink
+     */
+    public long shrinkStartAt(long tick) {
+        int stage = stageAt(tick) - 1;
+        return stage < 0 ? 0 : shrinkStart[stage];
+    }
+
+    /**
+     * Get the end tick of the current or last shrink
+     */
+    public long shrinkEndAt(long tick) {
+        int stage = stageAt(tick) - 1;
+        return stage < 0 ? 0 : shrinkEnd[stage];
+    }
+
+    public ZoneShrinkAlgorithm getAlgorithm() {
+        return algorithm;
+    }
+
+    public double getInitialRadius() {
+        return initialRadius;
+    }
+
+    public double getFinalRadius() {
+        return toRadius.length > 0 ? toRadius[toRadius.length - 1] : initialRadius;
+    }
+
+    public int getStageCount() {
+        return shrinkStart.length;
+    }
+
+    public long getLength() {
+        return shrinkEnd.length > 0 ? shrinkEnd[shrinkEnd.length - 1] : 0;
+    }
+}
\ No newline at end of file
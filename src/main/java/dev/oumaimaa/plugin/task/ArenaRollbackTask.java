@@ -0,0 +1,101 @@
+package dev.oumaimaa.plugin.task;
+
+import dev.oumaimaa.Main;
+import dev.oumaimaa.plugin.skeleton.BlockJournal;
+import org.bukkit.World;
+import org.bukkit.scheduler.BukkitTask;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Replays a {@link BlockJournal} back into its world a few blocks per tick.
+ * <p>
+ * Entries are restored newest first without physics, so the cost of a reset
+ * is proportional to the number of changed blocks and is spread across ticks
+ * under the configured per-tick budget.
+ */
+public class ArenaRollbackTask {
+
+    private final Main plugin;
+    private final World world;
+    private final BlockJournal journal;
+    private final Runnable onComplete;
+    private final int blocksPerTick;
+    private BukkitTask task;
+    private int cursor;
+    private boolean finished;
+
+    public ArenaRollbackTask(Main plugin, World world, BlockJournal journal, Runnable onComplete) {
+        this.plugin = plugin;
+        this.world = world;
+        this.journal = journal;
+        this.onComplete = onComplete;
+        this.blocksPerTick = plugin.getConfigManager().getRollbackBlocksPerTick();
+        this.cursor = journal.size();
+    }
+
+    /**
+     * Start restoring on the next tick
+     */
+    public void start() {
+        if (cursor == 0) {
+            finish();
+            return;
+        }
+        task = plugin.getServer().getScheduler().runTaskTimer(plugin, this::tick, 1L, 1L);
+    }
+
+    private void tick() {
+        restore(blocksPerTick);
+        if (cursor == 0) {
+            finish();
+        }
+    }
+
+    /**
+     * Restore up to the given number of entries
+     */
+    private void restore(int budget) {
+        int end = Math.max(0, cursor - budget);
+        for (int i = cursor - 1; i >= end; i--) {
+            long position = journal.getPosition(i);
+            world.getBlockAt(BlockJournal.unpackX(position), BlockJournal.unpackY(position), BlockJournal.unpackZ(position))
+                    .setBlockData(journal.getOriginal(i), false);
+        }
+        cursor = end;
+    }
+
+    /**
+     * Restore everything left in this tick (used on shutdown)
+     */
+    public void complete() {
+        if (finished) return;
+        restore(cursor);
+        finish();
+    }
+
+    private void finish() {
+        if (finished) return;
+        finished = true;
+        if (task != null) {
+            task.cancel();
+        }
+
+        plugin.logInfo("Restored " + journal.size() + " block(s) in " + world.getName());
+        journal.clear();
+
+        try {
+            onComplete.run();
+        } catch (Exception e) {
+            plugin.logSevere("Error finishing rollback of " + world.getName() + ": " + e.getMessage());
+            e.printStackTrace();
+        }
+    }
+
+    public boolean isFinished() {
+        return finished;
+    }
+
+    public int getRemaining() {
+        return cursor;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,145 @@
+package dev.oumaimaa.plugin.task;
+
+import dev.oumaimaa.Main;
+import dev.oumaimaa.plugin.skeleton.Arena;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Loads and holds arena chunks while a game counts down.
+ * <p>
+ * Chunks around every spawn and the arena center are requested
+ * asynchronously a few per tick and kept loaded with plugin chunk tickets
+ * until {@link #release()} is called when the game is cleaned up.
+ */
+public class ArenaWarmup {
+
+    private final Main plugin;
+    private final Arena arena;
+    private final Deque<Long> queue;
+    private final List<Long> ticketed;
+    private World world;
+    private int total;
+    private int loaded;
+    private boolean released;
+
+    public ArenaWarmup(Main plugin, Arena arena) {
+        this.plugin = plugin;
+        this.arena = arena;
+        this.queue = new ArrayDeque<>();
+        this.ticketed = new ArrayList<>();
+    }
+
+    /**
+     * Collect the chunks to warm
+     */
+    public void start() {
+        Location center = arena.getCenter();
+        if (center == null || center.getWorld() == null) return;
+
+        this.world = center.getWorld();
+        int spawnRadius = plugin.getConfigManager().getWarmupSpawnRadius();
+        int centerRadius = plugin.getConfigManager().getWarmupCenterRadius();
+
+        Set<Long> chunks = new LinkedHashSet<>();
+        addArea(chunks, center, centerRadius);
+        for (Location spawn : arena.getSpawnLocations()) {
+            if (spawn.getWorld() == world) {
+                addArea(chunks, spawn, spawnRadius);
+            }
+        }
+
+        queue.addAll(chunks);
+        total = chunks.size();
+    }
+
+    private static void addArea(@NotNull Set<Long> chunks, @NotNull Location location, int radius) {
+        int chunkX = location.getBlockX() >> 4;
+        int chunkZ = location.getBlockZ() >> 4;
+
+        for (int x = -radius; x <= radius; x++) {
+            for (int z = -radius; z <= radius; z++) {
+                chunks.add(chunkKey(chunkX + x, chunkZ + z));
+            }
+        }
+    }
+
+    private static long chunkKey(int x, int z) {
+        return ((long) x << 32) | (z & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Request the next batch of chunks
+     */
+    public void tick() {
+        if (released || world == null) return;
+
+        int budget = plugin.getConfigManager().getWarmupChunksPerTick();
+        for (int i = 0; i < budget && !queue.isEmpty(); i++) {
+            long key = queue.poll();
+            int x = (int) (key >> 32);
+            int z = (int) key;
+
+            world.getChunkAtAsync(x, z).whenComplete((chunk, throwable) -> {
+                if (throwable != null) {
+                    plugin.logWarning("Failed to warm chunk " + x + ", " + z + " in " + world.getName());
+                    loaded++;
+                    return;
+                }
+
+                // Completions arrive on the main thread, tickets can be managed directly
+                if (released) return;
+                if (chunk.addPluginChunkTicket(plugin)) {
+                    ticketed.add(key);
+                }
+                loaded++;
+            });
+        }
+    }
+
+    /**
+     * Remove all tickets added by this warmup
+     */
+    public void release() {
+        if (released) return;
+        released = true;
+        queue.clear();
+
+        if (world != null) {
+            for (long key : ticketed) {
+                world.removePluginChunkTicket((int) (key >> 32), (int) key, plugin);
+            }
+        }
+        ticketed.clear();
+    }
+
+    /**
+     * Check if every chunk has been loaded
+     */
+    public boolean isComplete() {
+        return world == null || loaded >= total;
+    }
+
+    /**
+     * Get warm-up progress between 0 and 1
+     */
+    public double getProgress() {
+        return total == 0 ? 1.0 : Math.min(1.0, (double) loaded / total);
+    }
+
+    public int getLoaded() {
+        return loaded;
+    }
+
+    public int getTotal() {
+        return total;
+    }
+}
\ No newline at end of file
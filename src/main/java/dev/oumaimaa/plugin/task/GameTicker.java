@@ -0,0 +1,112 @@
+package dev.oumaimaa.plugin.task;
+
+import dev.oumaimaa.Main;
+import dev.oumaimaa.plugin.skeleton.Game;
+import org.bukkit.scheduler.BukkitTask;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Drives every game from a single task.
+ * <p>
+ * Each game gets a phase offset within the second so its once-per-second
+ * work (countdown, zone damage, HUD) lands on a different tick than other
+ * games instead of every game spiking on the same tick.
+ */
+public class GameTicker {
+
+    public static final int SLOTS = 20;
+    private static final double NANOS_PER_TICK = 50_000_000.0;
+
+    private final Main plugin;
+    private final Set<Game> games;
+    private final int[] slotLoad;
+    private BukkitTask task;
+    private long currentTick;
+    private long lastTickNanos;
+
+    public GameTicker(Main plugin) {
+        this.plugin = plugin;
+        this.games = ConcurrentHashMap.newKeySet();
+        this.slotLoad = new int[SLOTS];
+        this.lastTickNanos = System.nanoTime();
+
+        this.task = plugin.getServer().getScheduler().runTaskTimer(plugin, this::tick, 1L, 1L);
+    }
+
+    /**
+     * Register a game, assigning it the least loaded phase offset
+     */
+    public synchronized void register(@NotNull Game game) {
+        if (!games.add(game)) return;
+
+        int slot = 0;
+        for (int i = 1; i < SLOTS; i++) {
+            if (slotLoad[i] < slotLoad[slot]) slot = i;
+        }
+
+        slotLoad[slot]++;
+        game.setTickOffset(slot);
+    }
+
+    /**
+     * Stop ticking a game
+     */
+    public synchronized void unregister(@NotNull Game game) {
+        if (games.remove(game)) {
+            slotLoad[game.getTickOffset()]--;
+        }
+    }
+
+    /**
+     * Tick all games
+     */
+    private void tick() {
+        currentTick++;
+        lastTickNanos = System.nanoTime();
+
+        for (Game game : games) {
+            try {
+                game.tick(currentTick);
+            } catch (Exception e) {
+                plugin.logSevere("Error ticking game " + game.getId() + ": " + e.getMessage());
+                e.printStackTrace();
+            }
+        }
+    }
+
+    /**
+     * Get the tick counter
+     */
+    public long getCurrentTick() {
+        return currentTick;
+    }
+
+    /**
+     * Get the tick including the fraction elapsed since the last tick
+     */
+    public double getPreciseTick() {
+        double fraction = (System.nanoTime() - lastTickNanos) / NANOS_PER_TICK;
+        return currentTick + Math.min(1.0, Math.max(0.0, fraction));
+    }
+
+    /**
+     * Get number of games being ticked
+     */
+    public int getGameCount() {
+        return games.size();
+    }
+
+    /**
+     * Shutdown
+     */
+    public void shutdown() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+        games.clear();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,49 @@
+package dev.oumaimaa.plugin.skeleton;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class BattlePassTest {
+
+    private static BattlePass pass(int... requiredXP) {
+        BattlePass pass = new BattlePass(1, 0);
+        for (int i = 0; i < requiredXP.length; i++) {
+            pass.addTier(new BattlePassTier(i + 1, requiredXP[i]));
+        }
+        return pass;
+    }
+
+    @Test
+    void tierIsReachedExactlyAtItsThreshold() {
+        BattlePass pass = pass(100, 250, 500);
+
+        assertEquals(0, pass.getTierForXP(0));
+        assertEquals(0, pass.getTierForXP(99));
+        assertEquals(1, pass.getTierForXP(100));
+        assertEquals(1, pass.getTierForXP(249));
+        assertEquals(2, pass.getTierForXP(250));
+        assertEquals(3, pass.getTierForXP(500));
+        assertEquals(3, pass.getTierForXP(Integer.MAX_VALUE - 1));
+    }
+
+    @Test
+    void missingTierBlocksTheTiersAfterIt() {
+        BattlePass pass = new BattlePass(1, 0);
+        pass.addTier(new BattlePassTier(1, 100));
+        pass.addTier(new BattlePassTier(3, 300));
+
+        assertEquals(1, pass.getTierForXP(1000));
+    }
+
+    @Test
+    void addingATierRebuildsTheLookup() {
+        BattlePass pass = pass(100, 200);
+        assertEquals(2, pass.getTierForXP(1000));
+
+        pass.addTier(new BattlePassTier(3, 400));
+
+        assertEquals(3, pass.getTierForXP(1000));
+        assertEquals(2, pass.getTierForXP(399));
+    }
+}
@@ -0,0 +1,109 @@
+package dev.oumaimaa.plugin.skeleton;
+
+import org.bukkit.entity.Player;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class KillRankingTest {
+
+    /**
+     * Game player backed by a stub that only knows its id and name
+     */
+    private static GamePlayer player(String name) {
+        UUID uuid = UUID.randomUUID();
+        Player player = (Player) Proxy.newProxyInstance(Player.class.getClassLoader(), new Class<?>[]{Player.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "getUniqueId" -> uuid;
+                    case "getName" -> name;
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+        return new GamePlayer(player);
+    }
+
+    @Test
+    void tiesGoToWhoeverReachedTheCountFirst() {
+        KillRanking ranking = new KillRanking();
+        GamePlayer alice = player("alice");
+        GamePlayer bob = player("bob");
+        GamePlayer carol = player("carol");
+        ranking.add(alice);
+        ranking.add(bob);
+        ranking.add(carol);
+
+        ranking.addKill(bob.getUuid());
+        ranking.addKill(alice.getUuid());
+
+        assertEquals(List.of(bob, alice, carol), ranking.top(3));
+        assertEquals(bob, ranking.getLeader());
+        assertEquals(1, ranking.getRank(alice.getUuid()));
+        assertEquals(1, ranking.getRank(bob.getUuid()));
+        assertEquals(3, ranking.getRank(carol.getUuid()));
+    }
+
+    @Test
+    void tieBrokenOrderGivesUniquePlacements() {
+        KillRanking ranking = new KillRanking();
+        GamePlayer alice = player("alice");
+        GamePlayer bob = player("bob");
+        GamePlayer carol = player("carol");
+        ranking.add(alice);
+        ranking.add(bob);
+        ranking.add(carol);
+
+        // Nobody has a kill, so every player shares rank 1 but join order breaks the tie
+        List<GamePlayer> order = ranking.top(ranking.size());
+        assertEquals(List.of(alice, bob, carol), order);
+        for (GamePlayer gp : order) {
+            assertEquals(1, ranking.getRank(gp.getUuid()));
+        }
+
+        ranking.addKill(carol.getUuid());
+        assertEquals(List.of(carol, alice, bob), ranking.top(ranking.size()));
+    }
+
+    @Test
+    void removedPlayerNoLongerRanks() {
+        KillRanking ranking = new KillRanking();
+        GamePlayer alice = player("alice");
+        GamePlayer bob = player("bob");
+        ranking.add(alice);
+        ranking.add(bob);
+        ranking.addKill(alice.getUuid());
+
+        ranking.remove(alice.getUuid());
+
+        assertEquals(1, ranking.size());
+        assertEquals(0, ranking.getRank(alice.getUuid()));
+        assertEquals(1, ranking.getRank(bob.getUuid()));
+        assertEquals(List.of(bob), ranking.top(5));
+        assertNull(ranking.getPlayer(alice.getUuid()));
+    }
+
+    @Test
+    void killsAreCountedOnTheGamePlayerToo() {
+        KillRanking ranking = new KillRanking();
+        GamePlayer alice = player("alice");
+        GamePlayer bob = player("bob");
+        ranking.add(alice);
+        ranking.add(bob);
+
+        // Past the initial size of the Fenwick tree
+        for (int i = 0; i < 40; i++) {
+            ranking.addKill(alice.getUuid());
+        }
+        ranking.addKill(bob.getUuid());
+
+        assertEquals(40, ranking.getKills(alice.getUuid()));
+        assertEquals(40, alice.getKills());
+        assertEquals(1, bob.getKills());
+        assertEquals(1, ranking.getRank(alice.getUuid()));
+        assertEquals(2, ranking.getRank(bob.getUuid()));
+        assertEquals(0, ranking.addKill(UUID.randomUUID()));
+    }
+}
@@ -0,0 +1,104 @@
+package dev.oumaimaa.plugin.skeleton;
+
+import dev.oumaimaa.plugin.config.ConfigManager;
+import org.bukkit.configuration.file.FileConfiguration;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ZoneTimelineTest {
+
+    /**
+     * Four linear stages from 1000 to 50: each shrinks for 1200 ticks,
+     * then holds for 2400 ticks before the next one starts
+     */
+    private static ZoneTimeline linear() {
+        YamlConfiguration zones = new YamlConfiguration();
+        zones.set("default.initial-radius", 1000);
+        zones.set("default.final-radius", 50);
+        zones.set("default.shrink-interval", 120);
+        zones.set("default.shrink-duration", 60);
+        zones.set("default.shrink-stages", 4);
+        zones.set("default.damage-per-tick", 2);
+        zones.set("shrink-algorithm", "LINEAR");
+        return ZoneTimeline.compile(configs(zones), null);
+    }
+
+    private static ConfigManager configs(FileConfiguration zones) {
+        FileConfiguration main = new YamlConfiguration();
+        return new ConfigManager(null) {
+            @Override
+            public FileConfiguration getZonesConfig() {
+                return zones;
+            }
+
+            @Override
+            public FileConfiguration getMainConfig() {
+                return main;
+            }
+        };
+    }
+
+    @Test
+    void stageStartsExactlyOnItsStartTick() {
+        ZoneTimeline timeline = linear();
+
+        assertEquals(0, timeline.stageAt(-1));
+        assertEquals(1, timeline.stageAt(0));
+        assertEquals(1, timeline.stageAt(3599));
+        assertEquals(2, timeline.stageAt(3600));
+        assertEquals(4, timeline.stageAt(10800));
+        assertEquals(4, timeline.stageAt(1_000_000));
+    }
+
+    @Test
+    void radiusShrinksDuringStagesAndHoldsBetweenThem() {
+        ZoneTimeline timeline = linear();
+
+        assertEquals(1000, timeline.radiusAt(0), 1e-9);
+        assertEquals(881.25, timeline.radiusAt(600), 1e-9);
+        assertEquals(762.5, timeline.radiusAt(1200), 1e-9);
+        assertEquals(762.5, timeline.radiusAt(3000), 1e-9);
+        assertEquals(643.75, timeline.radiusAt(4200), 1e-9);
+        assertEquals(50, timeline.radiusAt(20000), 1e-9);
+
+        assertTrue(timeline.isShrinkingAt(600));
+        assertFalse(timeline.isShrinkingAt(2000));
+        assertEquals(525, timeline.targetRadiusAt(3600), 1e-9);
+    }
+
+    @Test
+    void nextShrinkIsLookedUpFromTheCurrentStage() {
+        ZoneTimeline timeline = linear();
+
+        assertEquals(3600, timeline.nextShrinkAt(1200));
+        assertEquals(1200, timeline.holdStartAt(2000));
+        assertEquals(-1, timeline.nextShrinkAt(10800));
+        assertEquals(12000, timeline.getLength());
+    }
+
+    @Test
+    void configuredStagesOverrideDurationAndDamage() {
+        YamlConfiguration zones = new YamlConfiguration();
+        zones.set("default.initial-radius", 1000);
+        zones.set("default.final-radius", 50);
+        zones.set("default.shrink-interval", 120);
+        zones.set("default.shrink-duration", 60);
+        zones.set("default.damage-per-tick", 2);
+        zones.set("stages.1.target-radius", 500);
+        zones.set("stages.1.damage-per-tick", 4);
+        zones.set("stages.2.target-radius", 100);
+        zones.set("stages.2.duration", 30);
+        ZoneTimeline timeline = ZoneTimeline.compile(configs(zones), null);
+
+        assertEquals(2, timeline.getStageCount());
+        assertEquals(4, timeline.damageAt(100));
+        assertEquals(2, timeline.damageAt(3700));
+        assertEquals(100, timeline.targetRadiusAt(3700), 1e-9);
+        assertEquals(100, timeline.getFinalRadius(), 1e-9);
+        assertEquals(4200, timeline.getLength());
+    }
+}